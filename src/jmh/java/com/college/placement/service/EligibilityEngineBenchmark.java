@@ -0,0 +1,232 @@
+package com.college.placement.service;
+
+import com.college.placement.model.PlacementDrive;
+import com.college.placement.model.Student;
+import com.college.placement.repository.StudentRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the ELIGIBILITY ENGINE section of PlacementDriveService.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec@run-benchmarks
+ * (ops/s plus gc.alloc.rate.norm from -prof gc)
+ *
+ * The "json" benchmarks reproduce the old per-check JSON parsing of the
+ * eligibility columns and serve as the baseline for the compiled criteria.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EligibilityEngineBenchmark {
+
+    private static final String[] DEPARTMENTS = {"CS", "IT", "EC", "EE", "ME", "CE", "CH", "BT"};
+    private static final int[] BATCHES = {2024, 2025, 2026, 2027};
+
+    @Param({"1000", "100000"})
+    public int studentCount;
+
+    @Param({"20", "500"})
+    public int driveCount;
+
+    private PlacementDriveService driveService;
+    private EligibilityCriteriaCache criteriaCache;
+    private StudentEligibilityIndex eligibilityIndex;
+    private ObjectMapper objectMapper;
+
+    private Student[] students;
+    private PlacementDrive[] drives;
+    private String[] departmentJson;
+    private String[] batchJson;
+
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        objectMapper = new ObjectMapper();
+
+        students = new Student[studentCount];
+        List<Object[]> profiles = new ArrayList<>(studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            Student student = new Student();
+            student.setStudentId("S" + i);
+            student.setName("Student " + i);
+            student.setDepartment(DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+            student.setBatchYear(BATCHES[random.nextInt(BATCHES.length)]);
+            student.setCgpa(BigDecimal.valueOf(500 + random.nextInt(500), 2));
+            student.setBacklogs(random.nextInt(10) < 7 ? 0 : random.nextInt(4));
+            students[i] = student;
+            profiles.add(new Object[] {student.getStudentId(), student.getDepartment(),
+                    student.getBatchYear(), student.getCgpa(), student.getBacklogs()});
+        }
+
+        drives = new PlacementDrive[driveCount];
+        departmentJson = new String[driveCount];
+        batchJson = new String[driveCount];
+        for (int i = 0; i < driveCount; i++) {
+            List<String> depts = pick(random, DEPARTMENTS, 1 + random.nextInt(4));
+            List<Integer> batches = List.of(BATCHES[random.nextInt(BATCHES.length)], BATCHES[BATCHES.length - 1]);
+
+            PlacementDrive drive = PlacementDrive.builder()
+                    .driveId(i + 1)
+                    .companyName("Company " + i)
+                    .jobRole("Software Engineer")
+                    .jobDescription("Build and maintain services")
+                    .packageOffered(BigDecimal.valueOf(300 + random.nextInt(2000), 2))
+                    .minCgpa(BigDecimal.valueOf(600 + random.nextInt(250), 2))
+                    .maxBacklogs(random.nextInt(3))
+                    .eligibleDepartments(depts.toArray(new String[0]))
+                    .eligibleBatches(batches.toArray(new Integer[0]))
+                    .driveDate(LocalDate.now().plusDays(30))
+                    .applicationDeadline(LocalDateTime.now().plusDays(20))
+                    .venue("Main Auditorium")
+                    .totalPositions(10)
+                    .build();
+            drive.setCreatedAt(LocalDateTime.now());
+            drive.setUpdatedAt(LocalDateTime.now());
+            drives[i] = drive;
+            departmentJson[i] = objectMapper.writeValueAsString(depts);
+            batchJson[i] = objectMapper.writeValueAsString(batches);
+        }
+
+        criteriaCache = new EligibilityCriteriaCache();
+        eligibilityIndex = new StudentEligibilityIndex();
+        inject(eligibilityIndex, "studentRepository", stubRepository(profiles));
+
+        driveService = new PlacementDriveService();
+        inject(driveService, "criteriaCache", criteriaCache);
+        inject(driveService, "eligibilityIndex", eligibilityIndex);
+
+        // Warm the index so the benchmarks measure matching, not loading
+        eligibilityIndex.size();
+    }
+
+    // ============================================
+    // ONE STUDENT AGAINST EVERY DRIVE (/api/drives/eligible)
+    // ============================================
+
+    @Benchmark
+    public int eligibleDrivesCompiled() {
+        Student student = nextStudent();
+        int eligible = 0;
+        for (PlacementDrive drive : drives) {
+            if (driveService.isStudentEligible(student, drive)) {
+                eligible++;
+            }
+        }
+        return eligible;
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public int eligibleDrivesJson() throws Exception {
+        Student student = nextStudent();
+        int eligible = 0;
+        for (int i = 0; i < drives.length; i++) {
+            PlacementDrive drive = drives[i];
+            List<String> depts = objectMapper.readValue(departmentJson[i], List.class);
+            List<Integer> batches = objectMapper.readValue(batchJson[i], List.class);
+            if (student.getCgpa().compareTo(drive.getMinCgpa()) >= 0
+                    && student.getBacklogs() <= drive.getMaxBacklogs()
+                    && depts.contains(student.getDepartment())
+                    && batches.contains(student.getBatchYear())) {
+                eligible++;
+            }
+        }
+        return eligible;
+    }
+
+    // ============================================
+    // SINGLE CHECKS AND MAPPING
+    // ============================================
+
+    @Benchmark
+    public void performEligibilityCheck(Blackhole blackhole) {
+        blackhole.consume(driveService.performEligibilityCheck(nextStudent(), nextDrive()));
+    }
+
+    @Benchmark
+    public void mapToResponse(Blackhole blackhole) {
+        blackhole.consume(driveService.mapToResponse(nextDrive()));
+    }
+
+    // ============================================
+    // ONE DRIVE AGAINST EVERY STUDENT (bulk matching)
+    // ============================================
+
+    @Benchmark
+    public int eligibleStudentsIndex() {
+        return eligibilityIndex.countEligible(criteriaCache.get(nextDrive()));
+    }
+
+    @Benchmark
+    public int eligibleStudentsScan() {
+        EligibilityCriteria criteria = criteriaCache.get(nextDrive());
+        int eligible = 0;
+        for (Student student : students) {
+            if (criteria.matches(student)) {
+                eligible++;
+            }
+        }
+        return eligible;
+    }
+
+    // ============================================
+    // HELPERS
+    // ============================================
+
+    private Student nextStudent() {
+        cursor++;
+        return students[(cursor & Integer.MAX_VALUE) % students.length];
+    }
+
+    private PlacementDrive nextDrive() {
+        cursor++;
+        return drives[(cursor & Integer.MAX_VALUE) % drives.length];
+    }
+
+    private static List<String> pick(Random random, String[] values, int count) {
+        List<String> shuffled = new ArrayList<>(Arrays.asList(values));
+        Collections.shuffle(shuffled, random);
+        return new ArrayList<>(shuffled.subList(0, count));
+    }
+
+    private static StudentRepository stubRepository(List<Object[]> profiles) {
+        return (StudentRepository) Proxy.newProxyInstance(
+                StudentRepository.class.getClassLoader(),
+                new Class<?>[] {StudentRepository.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findAcademicProfiles":
+                            return profiles;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StudentRepository stub";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static void inject(Object target, String fieldName, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
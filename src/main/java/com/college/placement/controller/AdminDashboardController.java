@@ -0,0 +1,45 @@
+package com.college.placement.controller;
+
+import com.college.placement.dto.AdminDashboardResponse;
+import com.college.placement.dto.ApiResponse;
+import com.college.placement.service.DashboardService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@CrossOrigin(origins = "*", exposedHeaders = "Server-Timing")
+public class AdminDashboardController {
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    /**
+     * Statistics, drives, drive funnels and companies for the admin home page
+     * in one response (ADMIN ONLY). Section timings are also sent as a
+     * Server-Timing header so they show up in the browser's network panel.
+     * GET /api/admin/dashboard
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<AdminDashboardResponse>> getDashboard() {
+        try {
+            AdminDashboardResponse dashboard = dashboardService.getAdminDashboard();
+            String serverTiming = dashboard.getTimingsMs().entrySet().stream()
+                    .map(e -> e.getKey() + ";dur=" + e.getValue())
+                    .collect(Collectors.joining(", "))
+                    + ", total;dur=" + dashboard.getTotalMs();
+            return ResponseEntity.ok()
+                    .header("Server-Timing", serverTiming)
+                    .body(ApiResponse.success("Dashboard retrieved", dashboard));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to load dashboard: " + e.getMessage()));
+        }
+    }
+}
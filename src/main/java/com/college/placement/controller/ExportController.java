@@ -0,0 +1,57 @@
+package com.college.placement.controller;
+
+import com.college.placement.dto.ApiResponse;
+import com.college.placement.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/admin/exports")
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    @Autowired
+    private ExportService exportService;
+
+    /**
+     * Download students, applications or placements as CSV or XLSX (ADMIN ONLY)
+     * GET /api/admin/exports/{dataset}?format=csv|xlsx&department=&batchYear=
+     */
+    @GetMapping("/{dataset}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> export(
+            @PathVariable String dataset,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Integer batchYear) {
+        ExportService.Dataset exportDataset;
+        ExportService.Format exportFormat;
+        try {
+            exportDataset = exportService.resolveDataset(dataset);
+            exportFormat = exportService.resolveFormat(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+
+        String filename = exportDataset.name().toLowerCase() + "-" + LocalDate.now()
+                + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out ->
+                exportService.export(exportDataset, exportFormat, department, batchYear, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -2,6 +2,7 @@
 package com.college.placement.controller;
 
 import com.college.placement.dto.*;
+import com.college.placement.service.DataVersions;
 import com.college.placement.service.PlacementDriveService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,6 +23,9 @@ public class PlacementDriveController {
     @Autowired
     private PlacementDriveService driveService;
     
+    @Autowired
+    private DataVersions dataVersions;
+    
     /**
      * Create new placement drive (ADMIN ONLY)
      * POST /api/drives
@@ -65,9 +70,60 @@ public class PlacementDriveController {
     @GetMapping
     public ResponseEntity<ApiResponse<List<PlacementDriveResponse>>> getAllDrives(
             @RequestParam(required = false) String status,
-            @RequestParam(required = false) String company) {
+            @RequestParam(required = false) String company,
+            WebRequest webRequest) {
+        String etag = dataVersions.etag(DataVersions.Domain.DRIVES);
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         List<PlacementDriveResponse> drives = driveService.getAllDrives(status, company);
-        return ResponseEntity.ok(ApiResponse.success("Drives retrieved", drives));
+        return ConditionalGet.ok(etag, ApiResponse.success("Drives retrieved", drives));
+    }
+    
+    /**
+     * Get drives one page at a time, newest first
+     * GET /api/drives/page?status=UPCOMING&size=20&cursor=...
+     */
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<DrivePageResponse>> getDrivePage(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest webRequest) {
+        String etag = dataVersions.etag(DataVersions.Domain.DRIVES);
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        try {
+            DrivePageResponse page = driveService.getDrivePage(status, cursor, size);
+            return ConditionalGet.ok(etag, ApiResponse.success("Drives retrieved", page));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * Search drives by company, role and description
+     * GET /api/drives/search?q=software&status=UPCOMING&status=ONGOING&limit=20
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<PlacementDriveResponse>>> searchDrives(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) List<String> status,
+            @RequestParam(required = false) Integer limit,
+            WebRequest webRequest) {
+        String etag = dataVersions.etag(DataVersions.Domain.DRIVES);
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        try {
+            List<PlacementDriveResponse> drives = driveService.searchDrives(query, status, limit);
+            return ConditionalGet.ok(etag, ApiResponse.success("Drives found", drives));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
     }
     
     /**
@@ -75,10 +131,16 @@ public class PlacementDriveController {
      * GET /api/drives/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<PlacementDriveResponse>> getDriveById(@PathVariable Integer id) {
+    public ResponseEntity<ApiResponse<PlacementDriveResponse>> getDriveById(
+            @PathVariable Integer id,
+            WebRequest webRequest) {
+        String etag = dataVersions.etag(DataVersions.Domain.DRIVES);
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         try {
             PlacementDriveResponse drive = driveService.getDriveById(id);
-            return ResponseEntity.ok(ApiResponse.success("Drive found", drive));
+            return ConditionalGet.ok(etag, ApiResponse.success("Drive found", drive));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(ApiResponse.error("Drive not found"));
@@ -120,6 +182,53 @@ public class PlacementDriveController {
         }
     }
     
+    /**
+     * Check eligibility for several drives in one call (STUDENT ONLY)
+     * POST /api/drives/check-eligibility
+     */
+    @PostMapping("/check-eligibility")
+    @PreAuthorize("hasRole('STUDENT')")
+    public ResponseEntity<ApiResponse<List<EligibilityCheckResponse>>> checkEligibilityBatch(
+            @Valid @RequestBody BatchEligibilityCheckRequest request,
+            Authentication auth) {
+        try {
+            List<EligibilityCheckResponse> responses =
+                    driveService.checkEligibility(request.getDriveIds(), auth.getName());
+            return ResponseEntity.ok(ApiResponse.success("Eligibility checked", responses));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * Get students eligible for drive (ADMIN ONLY)
+     * GET /api/drives/{id}/eligible-students
+     */
+    @GetMapping("/{id}/eligible-students")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<String>>> getEligibleStudents(@PathVariable Integer id) {
+        try {
+            List<String> studentIds = driveService.getEligibleStudentIds(id);
+            return ResponseEntity.ok(ApiResponse.success("Eligible students retrieved", studentIds));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * Preview how many students draft criteria admit, per department and batch (ADMIN ONLY)
+     * POST /api/drives/eligibility-preview
+     */
+    @PostMapping("/eligibility-preview")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EligibilityPreviewResponse>> previewEligibility(
+            @Valid @RequestBody EligibilityPreviewRequest request) {
+        EligibilityPreviewResponse preview = driveService.previewEligibility(request);
+        return ResponseEntity.ok(ApiResponse.success("Eligibility preview computed", preview));
+    }
+    
     /**
      * Cancel/Close drive (ADMIN ONLY)
      * POST /api/drives/{id}/cancel
@@ -136,6 +245,28 @@ public class PlacementDriveController {
         }
     }
     
+    /**
+     * Re-derive application counters of all drives (ADMIN ONLY)
+     * POST /api/drives/application-counts/repair
+     */
+    @PostMapping("/application-counts/repair")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> repairApplicationCounts() {
+        int repaired = driveService.repairApplicationCounts();
+        return ResponseEntity.ok(ApiResponse.success("Application counts repaired", repaired));
+    }
+    
+    /**
+     * Drive response cache metrics (ADMIN ONLY)
+     * GET /api/drives/cache/stats
+     */
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> getCacheStats() {
+        return ResponseEntity.ok(ApiResponse.success("Cache statistics retrieved",
+                driveService.getResponseCacheStats()));
+    }
+    
     /**
      * Get drive statistics (ADMIN ONLY)
      * GET /api/drives/{id}/statistics
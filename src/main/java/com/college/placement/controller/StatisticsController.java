@@ -9,7 +9,9 @@ import com.college.placement.service.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
 import java.util.List;
 
@@ -22,25 +24,98 @@ public class StatisticsController {
     @Autowired
     private StatisticsService statisticsService;
     
+    @Autowired
+    private DataVersions dataVersions;
+    
     // GET overall placement statistics
     @GetMapping("/overall")
-    public ResponseEntity<ApiResponse<PlacementStatisticsDTO>> getOverallStatistics() {
-        PlacementStatisticsDTO stats = statisticsService.getOverallStatistics();
-        return ResponseEntity.ok(ApiResponse.success("Overall statistics retrieved", stats));
+    public ResponseEntity<ApiResponse<PlacementStatisticsDTO>> getOverallStatistics(WebRequest webRequest) {
+        // Served from the in-memory snapshot, which carries its own ETag
+        OverallStatisticsSnapshot.Entry snapshot = statisticsService.getOverallStatisticsEntry();
+        String etag = snapshot.getEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        return ConditionalGet.ok(etag, ApiResponse.success("Overall statistics retrieved", snapshot.getStatistics()));
     }
     
     // GET department-wise statistics
     @GetMapping("/department")
-    public ResponseEntity<ApiResponse<List<DepartmentStatisticsDTO>>> getDepartmentStatistics() {
+    public ResponseEntity<ApiResponse<List<DepartmentStatisticsDTO>>> getDepartmentStatistics(WebRequest webRequest) {
+        String etag = statisticsEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         List<DepartmentStatisticsDTO> stats = statisticsService.getDepartmentStatistics();
-        return ResponseEntity.ok(ApiResponse.success("Department statistics retrieved", stats));
+        return ConditionalGet.ok(etag, ApiResponse.success("Department statistics retrieved", stats));
     }
     
     // GET year-wise statistics
     @GetMapping("/year")
-    public ResponseEntity<ApiResponse<List<YearStatisticsDTO>>> getYearStatistics() {
+    public ResponseEntity<ApiResponse<List<YearStatisticsDTO>>> getYearStatistics(WebRequest webRequest) {
+        String etag = statisticsEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         List<YearStatisticsDTO> stats = statisticsService.getYearStatistics();
-        return ResponseEntity.ok(ApiResponse.success("Year statistics retrieved", stats));
+        return ConditionalGet.ok(etag, ApiResponse.success("Year statistics retrieved", stats));
+    }
+    
+    // GET package percentiles (p50/p75/p90/p99) overall, by department and by year
+    @GetMapping("/packages")
+    public ResponseEntity<ApiResponse<PackageDistributionResponse>> getPackageDistribution(WebRequest webRequest) {
+        String etag = statisticsEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        PackageDistributionResponse stats = statisticsService.getPackageDistribution();
+        return ConditionalGet.ok(etag, ApiResponse.success("Package distribution retrieved", stats));
+    }
+    
+    // GET weekly placement trend (?weeks=12&department=)
+    @GetMapping("/trend")
+    public ResponseEntity<ApiResponse<PlacementTrendResponse>> getPlacementTrend(
+            @RequestParam(required = false) Integer weeks,
+            @RequestParam(required = false) String department,
+            WebRequest webRequest) {
+        String etag = statisticsEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        PlacementTrendResponse trend = statisticsService.getPlacementTrend(weeks, department);
+        return ConditionalGet.ok(etag, ApiResponse.success("Placement trend retrieved", trend));
+    }
+    
+    // GET placement cube roll-up/drill-down
+    // (?groupBy=department,batch,company,packageBand&department=&batchYear=&company=&packageBand=)
+    @GetMapping("/cube")
+    public ResponseEntity<ApiResponse<PlacementCubeResponse>> getPlacementCube(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Integer batchYear,
+            @RequestParam(required = false) String company,
+            @RequestParam(required = false) String packageBand,
+            WebRequest webRequest) {
+        String etag = statisticsEtag();
+        if (webRequest.checkNotModified(etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        try {
+            PlacementCubeResponse cube = statisticsService.getPlacementCube(groupBy, department, batchYear,
+                    company, packageBand);
+            return ConditionalGet.ok(etag, ApiResponse.success("Placement cube retrieved", cube));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // POST rebuild daily placement rollups from placements
+    @PostMapping("/trend/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> backfillPlacementTrend() {
+        int rows = statisticsService.backfillPlacementTrend();
+        return ResponseEntity.ok(ApiResponse.success("Backfilled " + rows + " daily rollups", rows));
     }
     
     // POST update placement
@@ -55,4 +130,33 @@ public class StatisticsController {
                     .body(ApiResponse.error(e.getMessage()));
         }
     }
+    
+    // POST record a batch of placements in one transaction (result day)
+    @PostMapping("/placement/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<PlacementBatchResponse>> recordPlacements(
+            @Valid @RequestBody BatchPlacementRequest request) {
+        try {
+            PlacementBatchResponse result = statisticsService.recordPlacements(request.getPlacements());
+            return ResponseEntity.ok(ApiResponse.success(
+                    "Recorded " + result.getPlacementsRecorded() + " placements", result));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        }
+    }
+    
+    // POST rebuild department/batch aggregates from students (repairs drift)
+    @PostMapping("/aggregates/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> rebuildAggregates() {
+        int groups = statisticsService.rebuildAggregates();
+        return ResponseEntity.ok(ApiResponse.success("Rebuilt " + groups + " statistics groups", groups));
+    }
+    
+    private String statisticsEtag() {
+        return dataVersions.etag(DataVersions.Domain.STUDENTS,
+                DataVersions.Domain.COMPANIES,
+                DataVersions.Domain.PLACEMENTS);
+    }
 }
@@ -5,9 +5,15 @@ import com.college.placement.dto.*;
 import com.college.placement.service.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
@@ -18,6 +24,9 @@ public class StudentController {
     @Autowired
     private StudentService studentService;
     
+    @Autowired
+    private StudentImportService studentImportService;
+    
     // GET all students
     @GetMapping
     public ResponseEntity<ApiResponse<List<Student>>> getAllStudents() {
@@ -31,6 +40,25 @@ public class StudentController {
         }
     }
     
+    // GET one page of students (?page=&size= or keyset ?afterId=&size=)
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<StudentPageResponse>> getStudentPage(
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String afterId) {
+        StudentPageResponse students = studentService.getStudentPage(page, size, afterId);
+        return ResponseEntity.ok(ApiResponse.success("Students retrieved successfully", students));
+    }
+    
+    // GET all students streamed from a database cursor
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamStudents() {
+        StreamingResponseBody body = studentService::streamStudents;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
     // GET student by ID
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Student>> getStudentById(@PathVariable String id) {
@@ -66,6 +94,50 @@ public class StudentController {
                 .body(ApiResponse.success("Student created successfully", createdStudent));
     }
     
+    // POST bulk import a roster (multipart "file", CSV with header or NDJSON)
+    @PostMapping("/import")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<StudentImportResponse>> importStudents(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        try (InputStream input = file.getInputStream()) {
+            StudentImportService.Format importFormat =
+                    studentImportService.resolveFormat(format, file.getOriginalFilename());
+            StudentImportResponse result = studentImportService.importRoster(input, importFormat);
+            String message = "Imported " + (result.getInserted() + result.getUpdated()) + " students, "
+                    + result.getFailed() + " rows rejected";
+            return ResponseEntity.ok(ApiResponse.success(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Could not read uploaded file: " + e.getMessage()));
+        }
+    }
+    
+    // POST bulk update cgpa and backlogs (multipart "file" of studentId, cgpa, backlogs)
+    @PostMapping("/academic-records")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<StudentImportResponse>> updateAcademicRecords(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+        try (InputStream input = file.getInputStream()) {
+            StudentImportService.Format importFormat =
+                    studentImportService.resolveFormat(format, file.getOriginalFilename());
+            StudentImportResponse result = studentImportService.importAcademicRecords(input, importFormat);
+            String message = "Updated " + result.getUpdated() + " students, "
+                    + result.getUnchanged() + " unchanged, " + result.getFailed() + " rows rejected";
+            return ResponseEntity.ok(ApiResponse.success(message, result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Could not read uploaded file: " + e.getMessage()));
+        }
+    }
+    
     // PUT update student
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Student>> updateStudent(
@@ -0,0 +1,26 @@
+package com.college.placement.dto;
+
+import com.college.placement.model.Company;
+import com.college.placement.model.ExpectedCompany;
+import lombok.*;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminDashboardResponse {
+    private PlacementStatisticsDTO overall;
+    private List<DepartmentStatisticsDTO> departments;
+    private List<YearStatisticsDTO> years;
+    private PackageDistributionResponse packages;
+    private List<PlacementDriveResponse> drives;
+    private List<DriveStatisticsResponse> driveStatistics;
+    private List<Company> companies;
+    private List<ExpectedCompany> expectedCompanies;
+    
+    // Server-side time per section and for the whole payload, in milliseconds
+    private Map<String, Long> timingsMs;
+    private Long totalMs;
+}
@@ -0,0 +1,15 @@
+package com.college.placement.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchEligibilityCheckRequest {
+    
+    @NotEmpty(message = "At least one drive is required")
+    @Size(max = 100, message = "At most 100 drives can be checked at once")
+    private List<Integer> driveIds;
+}
@@ -0,0 +1,17 @@
+package com.college.placement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchPlacementRequest {
+    
+    @NotEmpty(message = "At least one placement is required")
+    @Size(max = 1000, message = "At most 1000 placements can be recorded at once")
+    @Valid
+    private List<PlacementRequest> placements;
+}
@@ -0,0 +1,17 @@
+package com.college.placement.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponse {
+    private String region;
+    private Integer size;
+    private Integer maxSize;
+    private Long hits;
+    private Long misses;
+    private Long evictions;
+    private Double hitRate;
+}
@@ -0,0 +1,16 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.util.List;
+
+// One page of drives, newest first
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DrivePageResponse {
+    private List<PlacementDriveResponse> drives;
+    private Integer size;
+    private Boolean hasMore;
+    private String nextCursor; // Pass back as ?cursor= to get the next page
+}
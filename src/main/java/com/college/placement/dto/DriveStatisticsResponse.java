@@ -16,7 +16,7 @@ import java.util.Map;
 public class DriveStatisticsResponse {
     private Integer driveId;
     private String companyName;
-    private Integer totalApplications;
+    private Integer totalApplications; // active applications, excludes withdrawnCount
     private Integer shortlistedCount;
     private Integer interviewedCount;
     private Integer offeredCount;
@@ -12,6 +12,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class EligibilityCheckResponse {
+    private Integer driveId;
     private Boolean isEligible;
     private String message;
     private List<String> failedCriteria;
@@ -0,0 +1,24 @@
+package com.college.placement.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.util.List;
+
+// Draft eligibility criteria, named like the fields of PlacementDriveRequest
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilityPreviewRequest {
+    
+    @DecimalMin(value = "0.0")
+    @DecimalMax(value = "10.0")
+    private BigDecimal minCgpa;
+    
+    @Min(value = 0, message = "Max backlogs must be non-negative")
+    private Integer maxBacklogs;
+    
+    private List<String> eligibleDepartments;
+    
+    private List<Integer> eligibleBatches;
+}
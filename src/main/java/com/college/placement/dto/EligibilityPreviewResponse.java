@@ -0,0 +1,18 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EligibilityPreviewResponse {
+    private Integer eligibleCount;
+    private Integer totalStudents;
+    private Map<String, Integer> byDepartment;
+    private Map<Integer, Integer> byBatch;
+    
+    // department -> batch year -> eligible students
+    private Map<String, Map<Integer, Integer>> byDepartmentAndBatch;
+}
@@ -0,0 +1,13 @@
+package com.college.placement.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRowError {
+    private Long line;          // 1-based line in the uploaded file
+    private String studentId;
+    private String message;
+}
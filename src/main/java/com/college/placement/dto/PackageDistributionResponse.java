@@ -0,0 +1,14 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PackageDistributionResponse {
+    private PackagePercentilesDTO overall;
+    private List<PackagePercentilesDTO> byDepartment;
+    private List<PackagePercentilesDTO> byYear;
+}
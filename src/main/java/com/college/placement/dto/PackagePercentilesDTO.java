@@ -0,0 +1,17 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PackagePercentilesDTO {
+    private String group;          // Department, batch year, or "ALL"
+    private Long placedWithPackage;
+    private BigDecimal p50;
+    private BigDecimal p75;
+    private BigDecimal p90;
+    private BigDecimal p99;
+}
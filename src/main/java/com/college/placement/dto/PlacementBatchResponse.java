@@ -0,0 +1,14 @@
+package com.college.placement.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementBatchResponse {
+    private Integer placementsRecorded;
+    private Integer companiesCreated;
+    private Integer companiesUpdated;
+    private Long durationMs;
+}
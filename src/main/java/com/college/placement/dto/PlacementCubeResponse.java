@@ -0,0 +1,15 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementCubeResponse {
+    private List<String> groupBy;
+    private Map<String, String> filters;
+    private List<PlacementCubeRowDTO> rows;
+}
@@ -0,0 +1,20 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+
+// One cell of the placement cube; dimensions that were rolled up are null
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementCubeRowDTO {
+    private String department;
+    private Integer batchYear;
+    private String company;
+    private String packageBand;
+    private Long totalStudents;
+    private Long studentsPlaced;
+    private BigDecimal placementPercentage;
+    private BigDecimal averagePackage;
+}
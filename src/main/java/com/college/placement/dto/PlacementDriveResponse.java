@@ -34,7 +34,7 @@ public class PlacementDriveResponse {
     private Integer totalPositions;
     
     // Metadata
-    private Integer totalApplications;
+    private Integer totalApplications; // active applications, withdrawn ones are not counted
     private Boolean hasApplied; // For student view
     private String applicationStatus; // For student view
     private LocalDateTime createdAt;
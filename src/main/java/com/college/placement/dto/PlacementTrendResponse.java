@@ -0,0 +1,14 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlacementTrendResponse {
+    private String department;                 // Null for all departments
+    private Integer weeks;
+    private List<WeeklyPlacementDTO> series;   // Oldest week first
+}
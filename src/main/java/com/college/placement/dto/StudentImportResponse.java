@@ -0,0 +1,22 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentImportResponse {
+    private String format;
+    private Long totalRows;
+    private Long inserted;
+    private Long updated;
+    private Long unchanged;     // Academic updates only: rows that matched the current values
+    private Long failed;
+    private Long durationMs;
+    
+    // Per-row validation errors, capped; errorsTruncated is set when more were found
+    private List<ImportRowError> errors;
+    private Boolean errorsTruncated;
+}
@@ -0,0 +1,17 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentPageResponse {
+    private List<StudentSummaryDTO> students;
+    private Integer page;          // Offset mode only
+    private Integer size;
+    private Long totalStudents;    // Offset mode only
+    private Boolean hasMore;
+    private String nextAfterId;    // Pass back as ?afterId= for the next keyset page
+}
@@ -0,0 +1,21 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+
+// Flat student row for listings (no relations, no audit columns)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudentSummaryDTO {
+    private String studentId;
+    private String name;
+    private String department;
+    private Integer batchYear;
+    private BigDecimal cgpa;
+    private Integer backlogs;
+    private String placementStatus;
+    private String companyPlaced;
+    private BigDecimal packageLpa;
+}
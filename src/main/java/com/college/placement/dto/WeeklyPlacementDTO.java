@@ -0,0 +1,19 @@
+package com.college.placement.dto;
+
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyPlacementDTO {
+    private LocalDate weekStart;               // Monday
+    private Long placements;
+    private BigDecimal packageSum;
+    private BigDecimal averagePackage;
+    private Long cumulativePlacements;         // All placements up to the end of this week
+    private Long changeFromPreviousWeek;
+    private BigDecimal changePercent;          // Null when the previous week had none
+}
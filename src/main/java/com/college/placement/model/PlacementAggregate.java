@@ -0,0 +1,49 @@
+package com.college.placement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Running placement totals of one (department, batch year) group.
+ * Maintained by PlacementAggregateService; never edited directly.
+ */
+@Entity
+@Table(name = "placement_aggregates",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"department", "batch_year"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementAggregate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "aggregate_id")
+    private Integer aggregateId;
+    
+    @Column(nullable = false, length = 50)
+    private String department;
+    
+    @Column(name = "batch_year", nullable = false)
+    private Integer batchYear;
+    
+    @Column(name = "total_students", nullable = false)
+    private Long totalStudents = 0L;
+    
+    @Column(name = "placed_students", nullable = false)
+    private Long placedStudents = 0L;
+    
+    // Placed students with a package, the divisor of the average
+    @Column(name = "package_count", nullable = false)
+    private Long packageCount = 0L;
+    
+    @Column(name = "package_sum", nullable = false, precision = 14, scale = 2)
+    private BigDecimal packageSum = BigDecimal.ZERO;
+    
+    @Column(name = "package_max", precision = 10, scale = 2)
+    private BigDecimal packageMax;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,40 @@
+package com.college.placement.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Placements recorded on one day for one department.
+ * Maintained by PlacementTrendService; never edited directly.
+ */
+@Entity
+@Table(name = "placement_daily_rollups",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"rollup_date", "department"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlacementDailyRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Integer rollupId;
+    
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+    
+    @Column(nullable = false, length = 50)
+    private String department;
+    
+    @Column(nullable = false)
+    private Long placements = 0L;
+    
+    @Column(name = "package_sum", nullable = false, precision = 14, scale = 2)
+    private BigDecimal packageSum = BigDecimal.ZERO;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -47,11 +49,13 @@ public class PlacementDrive {
     @Builder.Default
     private Integer maxBacklogs = 0;
     
-    @Column(name = "eligible_departments", columnDefinition = "JSON")
-    private String eligibleDepartments; // JSON: ["CS", "EC"]
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "eligible_departments", columnDefinition = "text[]")
+    private String[] eligibleDepartments; // {"CS", "EC"}
     
-    @Column(name = "eligible_batches", columnDefinition = "JSON")
-    private String eligibleBatches; // JSON: [2025, 2026]
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "eligible_batches", columnDefinition = "int[]")
+    private Integer[] eligibleBatches; // {2025, 2026}
     
     // Drive Details
     @Column(name = "drive_date")
@@ -76,6 +80,12 @@ public class PlacementDrive {
     @JoinColumn(name = "created_by")
     private User createdBy;
     
+    // Maintained with atomic SQL increments, never written from entity state
+    @Column(name = "application_count", nullable = false, updatable = false,
+            columnDefinition = "INT DEFAULT 0")
+    @Builder.Default
+    private Integer applicationCount = 0;
+    
     @OneToMany(mappedBy = "drive", cascade = CascadeType.ALL)
     @JsonIgnore
     @Builder.Default
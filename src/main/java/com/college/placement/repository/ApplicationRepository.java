@@ -4,6 +4,8 @@ import com.college.placement.model.Application;
 import com.college.placement.model.PlacementDrive;
 import com.college.placement.model.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +16,25 @@ public interface ApplicationRepository extends JpaRepository<Application, Intege
     List<Application> findByDrive(PlacementDrive drive);
     Optional<Application> findByDriveAndStudent(PlacementDrive drive, Student student);
     List<Application> findByStatus(Application.ApplicationStatus status);
+    
+    @Query("SELECT a.drive.driveId, a.status FROM Application a WHERE a.student = :student")
+    List<Object[]> findDriveStatusesByStudent(@Param("student") Student student);
+    
+    // Funnel of one drive: status, count
+    @Query("SELECT a.status, COUNT(a) FROM Application a WHERE a.drive.driveId = :driveId GROUP BY a.status")
+    List<Object[]> countByStatusForDrive(@Param("driveId") Integer driveId);
+    
+    // Active (not withdrawn) applicants of one drive per department: department, count
+    @Query("SELECT s.department, COUNT(a) FROM Application a JOIN a.student s " +
+           "WHERE a.drive.driveId = :driveId " +
+           "AND a.status <> com.college.placement.model.Application$ApplicationStatus.WITHDRAWN " +
+           "GROUP BY s.department")
+    List<Object[]> countByDepartmentForDrive(@Param("driveId") Integer driveId);
+    
+    // Funnels of every drive in one pass: driveId, companyName, status, count
+    // (status is null for a drive without applications)
+    @Query("SELECT d.driveId, d.companyName, a.status, COUNT(a) FROM PlacementDrive d " +
+           "LEFT JOIN Application a ON a.drive = d " +
+           "GROUP BY d.driveId, d.companyName, a.status ORDER BY d.driveId")
+    List<Object[]> countByStatusForAllDrives();
 }
\ No newline at end of file
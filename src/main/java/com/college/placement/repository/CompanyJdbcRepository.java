@@ -0,0 +1,128 @@
+package com.college.placement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+/**
+ * Atomic writes to the companies table's placement counters.
+ *
+ * Placements are counted with INSERT ... ON CONFLICT DO UPDATE instead of a
+ * find-or-create followed by a read-modify-write, so concurrent placements
+ * for the same company neither lose increments nor trip the unique
+ * (company_name, visit_year) constraint. Batches send one row per company,
+ * since a single statement may not update the same row twice.
+ */
+@Repository
+public class CompanyJdbcRepository {
+
+    private static final String UPSERT_COLUMNS =
+            "INSERT INTO companies (company_name, visit_year, students_placed, package_offered, " +
+            "created_at, updated_at) ";
+
+    private static final String ON_CONFLICT_ADD =
+            "ON CONFLICT (company_name, visit_year) DO UPDATE SET " +
+            "students_placed = COALESCE(companies.students_placed, 0) + EXCLUDED.students_placed, " +
+            "package_offered = GREATEST(companies.package_offered, EXCLUDED.package_offered), " +
+            "updated_at = LOCALTIMESTAMP " +
+            // xmax is 0 only for a row this statement inserted
+            "RETURNING company_id, company_name, (xmax = 0) AS inserted";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Add placed students to a company's row for the year, creating it on
+     * first use. The offered package only ever grows.
+     */
+    public PlacementUpsert recordPlacements(String companyName, Integer visitYear,
+                                           int studentsPlaced, BigDecimal packageOffered) {
+        return jdbcTemplate.queryForObject(UPSERT_COLUMNS +
+                "VALUES (?, ?, ?, ?, LOCALTIMESTAMP, LOCALTIMESTAMP) " + ON_CONFLICT_ADD,
+                (rs, rowNum) -> new PlacementUpsert(rs.getInt("company_id"), rs.getBoolean("inserted")),
+                companyName, visitYear, studentsPlaced, packageOffered);
+    }
+
+    /**
+     * Upsert several companies in one statement, one row per company
+     * @return the outcome per company name
+     */
+    public Map<String, PlacementUpsert> recordPlacements(Integer visitYear, Collection<PlacementDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        StringBuilder values = new StringBuilder();
+        List<Object> args = new ArrayList<>(deltas.size() * 4);
+        for (PlacementDelta delta : deltas) {
+            values.append(args.isEmpty() ? "" : ", ")
+                    .append("(?, ?, ?, CAST(? AS DECIMAL(10, 2)), LOCALTIMESTAMP, LOCALTIMESTAMP)");
+            args.add(delta.getCompanyName());
+            args.add(visitYear);
+            args.add(delta.getStudentsPlaced());
+            args.add(delta.getPackageOffered());
+        }
+
+        Map<String, PlacementUpsert> result = new HashMap<>();
+        jdbcTemplate.query(UPSERT_COLUMNS + "VALUES " + values + " " + ON_CONFLICT_ADD,
+                rs -> {
+                    result.put(rs.getString("company_name"),
+                            new PlacementUpsert(rs.getInt("company_id"), rs.getBoolean("inserted")));
+                },
+                args.toArray());
+        return result;
+    }
+
+    /**
+     * Placements to add to one company: how many, and the best package among them
+     */
+    public static final class PlacementDelta {
+        private final String companyName;
+        private int studentsPlaced;
+        private BigDecimal packageOffered;
+
+        public PlacementDelta(String companyName) {
+            this.companyName = companyName;
+        }
+
+        public void add(BigDecimal packageLpa) {
+            studentsPlaced++;
+            if (packageLpa != null && (packageOffered == null || packageLpa.compareTo(packageOffered) > 0)) {
+                packageOffered = packageLpa;
+            }
+        }
+
+        public String getCompanyName() {
+            return companyName;
+        }
+
+        public int getStudentsPlaced() {
+            return studentsPlaced;
+        }
+
+        public BigDecimal getPackageOffered() {
+            return packageOffered;
+        }
+    }
+
+    public static final class PlacementUpsert {
+        private final Integer companyId;
+        private final boolean inserted;
+
+        public PlacementUpsert(Integer companyId, boolean inserted) {
+            this.companyId = companyId;
+            this.inserted = inserted;
+        }
+
+        public Integer getCompanyId() {
+            return companyId;
+        }
+
+        // Whether the company row was created by this upsert
+        public boolean isInserted() {
+            return inserted;
+        }
+    }
+}
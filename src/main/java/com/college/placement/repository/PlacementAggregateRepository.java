@@ -0,0 +1,61 @@
+package com.college.placement.repository;
+
+import com.college.placement.model.*;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+
+@Repository
+public interface PlacementAggregateRepository extends JpaRepository<PlacementAggregate, Integer> {
+    
+    // Add deltas to a group, creating it on first use
+    @Modifying
+    @Query(value = "INSERT INTO placement_aggregates (department, batch_year, total_students, placed_students, " +
+                   "package_count, package_sum, package_max, updated_at) " +
+                   "VALUES (:department, :batchYear, :totalDelta, :placedDelta, :packageCountDelta, " +
+                   ":packageSumDelta, :packageCandidate, LOCALTIMESTAMP) " +
+                   "ON CONFLICT (department, batch_year) DO UPDATE SET " +
+                   "total_students = placement_aggregates.total_students + EXCLUDED.total_students, " +
+                   "placed_students = placement_aggregates.placed_students + EXCLUDED.placed_students, " +
+                   "package_count = placement_aggregates.package_count + EXCLUDED.package_count, " +
+                   "package_sum = placement_aggregates.package_sum + EXCLUDED.package_sum, " +
+                   "package_max = GREATEST(placement_aggregates.package_max, EXCLUDED.package_max), " +
+                   "updated_at = LOCALTIMESTAMP",
+           nativeQuery = true)
+    int adjust(@Param("department") String department,
+               @Param("batchYear") Integer batchYear,
+               @Param("totalDelta") long totalDelta,
+               @Param("placedDelta") long placedDelta,
+               @Param("packageCountDelta") long packageCountDelta,
+               @Param("packageSumDelta") BigDecimal packageSumDelta,
+               @Param("packageCandidate") BigDecimal packageCandidate);
+    
+    // The maximum cannot be decremented, so recompute it from the group's students
+    @Modifying
+    @Query(value = "UPDATE placement_aggregates a SET package_max = (" +
+                   "SELECT MAX(s.package_lpa) FROM students s WHERE s.department = a.department " +
+                   "AND s.batch_year = a.batch_year AND s.placement_status = 'PLACED') " +
+                   "WHERE a.department = :department AND a.batch_year = :batchYear",
+           nativeQuery = true)
+    int recomputePackageMax(@Param("department") String department,
+                            @Param("batchYear") Integer batchYear);
+    
+    @Modifying
+    @Query(value = "DELETE FROM placement_aggregates", nativeQuery = true)
+    int deleteAllGroups();
+    
+    @Modifying
+    @Query(value = "INSERT INTO placement_aggregates (department, batch_year, total_students, placed_students, " +
+                   "package_count, package_sum, package_max, updated_at) " +
+                   "SELECT department, batch_year, COUNT(*), " +
+                   "COUNT(*) FILTER (WHERE placement_status = 'PLACED'), " +
+                   "COUNT(package_lpa) FILTER (WHERE placement_status = 'PLACED'), " +
+                   "COALESCE(SUM(package_lpa) FILTER (WHERE placement_status = 'PLACED'), 0), " +
+                   "MAX(package_lpa) FILTER (WHERE placement_status = 'PLACED'), LOCALTIMESTAMP " +
+                   "FROM students GROUP BY department, batch_year",
+           nativeQuery = true)
+    int insertAllGroupsFromStudents();
+}
@@ -0,0 +1,60 @@
+package com.college.placement.repository;
+
+import com.college.placement.model.*;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface PlacementDailyRollupRepository extends JpaRepository<PlacementDailyRollup, Integer> {
+    
+    // Add one day's deltas for a department, creating the row on first use
+    @Modifying
+    @Query(value = "INSERT INTO placement_daily_rollups (rollup_date, department, placements, package_sum, updated_at) " +
+                   "VALUES (:date, :department, :placements, :packageSum, LOCALTIMESTAMP) " +
+                   "ON CONFLICT (rollup_date, department) DO UPDATE SET " +
+                   "placements = placement_daily_rollups.placements + EXCLUDED.placements, " +
+                   "package_sum = placement_daily_rollups.package_sum + EXCLUDED.package_sum, " +
+                   "updated_at = LOCALTIMESTAMP",
+           nativeQuery = true)
+    int add(@Param("date") LocalDate date,
+            @Param("department") String department,
+            @Param("placements") long placements,
+            @Param("packageSum") BigDecimal packageSum);
+    
+    @Modifying
+    @Query(value = "DELETE FROM placement_daily_rollups", nativeQuery = true)
+    int deleteAllRollups();
+    
+    @Modifying
+    @Query(value = "INSERT INTO placement_daily_rollups (rollup_date, department, placements, package_sum, updated_at) " +
+                   "SELECT p.placement_date, s.department, COUNT(*), COALESCE(SUM(p.package_lpa), 0), LOCALTIMESTAMP " +
+                   "FROM placements p JOIN students s ON s.student_id = p.student_id " +
+                   "WHERE p.placement_date IS NOT NULL " +
+                   "GROUP BY p.placement_date, s.department",
+           nativeQuery = true)
+    int insertAllRollupsFromPlacements();
+    
+    // Daily totals: date, placements, package sum
+    @Query("SELECT r.rollupDate, SUM(r.placements), SUM(r.packageSum) FROM PlacementDailyRollup r " +
+           "WHERE r.rollupDate >= :from GROUP BY r.rollupDate")
+    List<Object[]> sumByDateSince(@Param("from") LocalDate from);
+    
+    @Query("SELECT r.rollupDate, SUM(r.placements), SUM(r.packageSum) FROM PlacementDailyRollup r " +
+           "WHERE r.rollupDate >= :from AND r.department = :department GROUP BY r.rollupDate")
+    List<Object[]> sumByDateSinceForDepartment(@Param("from") LocalDate from,
+                                               @Param("department") String department);
+    
+    @Query("SELECT COALESCE(SUM(r.placements), 0) FROM PlacementDailyRollup r WHERE r.rollupDate < :before")
+    Long countPlacementsBefore(@Param("before") LocalDate before);
+    
+    @Query("SELECT COALESCE(SUM(r.placements), 0) FROM PlacementDailyRollup r " +
+           "WHERE r.rollupDate < :before AND r.department = :department")
+    Long countPlacementsBeforeForDepartment(@Param("before") LocalDate before,
+                                            @Param("department") String department);
+}
@@ -1,17 +1,93 @@
 package com.college.placement.repository;
 
 import com.college.placement.model.PlacementDrive;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PlacementDriveRepository extends JpaRepository<PlacementDrive, Integer> {
+    
+    // Only the columns PlacementDriveResponse needs; see PlacementDriveService.mapRowToResponse
+    String DRIVE_ROW_SELECT = "SELECT d.driveId, d.companyName, d.jobRole, d.jobDescription, " +
+            "d.packageOffered, d.minCgpa, d.maxBacklogs, d.eligibleDepartments, d.eligibleBatches, " +
+            "d.driveDate, d.applicationDeadline, d.venue, d.status, d.totalPositions, " +
+            "d.applicationCount, d.createdAt FROM PlacementDrive d ";
+    
     List<PlacementDrive> findByStatus(PlacementDrive.DriveStatus status);
     List<PlacementDrive> findByCompanyNameContaining(String companyName);
     List<PlacementDrive> findByStatusAndCompanyNameContaining(
         PlacementDrive.DriveStatus status, String companyName);
     List<PlacementDrive> findByApplicationDeadlineBetween(
         LocalDateTime start, LocalDateTime end);
+    
+    // Keyset pagination on (createdAt, driveId), newest first
+    @Query(DRIVE_ROW_SELECT +
+           "WHERE (:status IS NULL OR d.status = :status) " +
+           "ORDER BY d.createdAt DESC, d.driveId DESC")
+    List<Object[]> findDriveRows(@Param("status") PlacementDrive.DriveStatus status, Pageable pageable);
+    
+    @Query(DRIVE_ROW_SELECT +
+           "WHERE (:status IS NULL OR d.status = :status) " +
+           "AND (d.createdAt < :createdAt OR (d.createdAt = :createdAt AND d.driveId < :driveId)) " +
+           "ORDER BY d.createdAt DESC, d.driveId DESC")
+    List<Object[]> findDriveRowsAfter(@Param("status") PlacementDrive.DriveStatus status,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("driveId") Integer driveId,
+                                      Pageable pageable);
+    
+    @Query(DRIVE_ROW_SELECT + "WHERE d.driveId IN :driveIds")
+    List<Object[]> findDriveRowsByIds(@Param("driveIds") Collection<Integer> driveIds);
+    
+    // Ranked full-text search over company name, job role and description (GIN on search_vector)
+    @Query(value = "SELECT d.drive_id FROM placement_drives d, to_tsquery('english', :query) q " +
+           "WHERE d.search_vector @@ q AND d.status IN (:statuses) " +
+           "ORDER BY ts_rank(d.search_vector, q) DESC, d.drive_id DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Integer> searchDriveIds(@Param("query") String query,
+                                 @Param("statuses") Collection<String> statuses,
+                                 @Param("limit") int limit);
+    
+    // Eligibility pushed down to PostgreSQL; array containment uses the GIN indexes.
+    // Null min_cgpa/max_backlogs count as 0, as in EligibilityCriteria.
+    @Query(value = "SELECT d.* FROM placement_drives d " +
+           "WHERE d.status IN ('UPCOMING', 'ONGOING') " +
+           "AND (d.application_deadline IS NULL OR d.application_deadline > LOCALTIMESTAMP) " +
+           "AND d.eligible_departments @> ARRAY[CAST(:department AS text)] " +
+           "AND d.eligible_batches @> ARRAY[CAST(:batchYear AS int)] " +
+           "AND COALESCE(d.min_cgpa, 0) <= :cgpa " +
+           "AND COALESCE(d.max_backlogs, 0) >= :backlogs " +
+           "ORDER BY d.application_deadline",
+           nativeQuery = true)
+    List<PlacementDrive> findOpenDrivesEligibleFor(@Param("department") String department,
+                                                   @Param("batchYear") Integer batchYear,
+                                                   @Param("cgpa") BigDecimal cgpa,
+                                                   @Param("backlogs") Integer backlogs);
+    
+    @Modifying
+    @Query("UPDATE PlacementDrive d SET d.applicationCount = d.applicationCount + 1 WHERE d.driveId = :driveId")
+    int incrementApplicationCount(@Param("driveId") Integer driveId);
+    
+    @Modifying
+    @Query("UPDATE PlacementDrive d SET d.applicationCount = d.applicationCount - 1 " +
+           "WHERE d.driveId = :driveId AND d.applicationCount > 0")
+    int decrementApplicationCount(@Param("driveId") Integer driveId);
+    
+    @Modifying
+    @Query(value = "UPDATE placement_drives d SET application_count = COALESCE(c.cnt, 0) " +
+           "FROM placement_drives d2 LEFT JOIN (" +
+           "    SELECT drive_id, COUNT(*) AS cnt FROM applications " +
+           "    WHERE status <> 'WITHDRAWN' GROUP BY drive_id" +
+           ") c ON c.drive_id = d2.drive_id " +
+           "WHERE d.drive_id = d2.drive_id AND d.application_count <> COALESCE(c.cnt, 0)",
+           nativeQuery = true)
+    int recountApplicationCounts();
 }
\ No newline at end of file
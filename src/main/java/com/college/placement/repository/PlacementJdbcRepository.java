@@ -0,0 +1,32 @@
+package com.college.placement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Batched inserts into the placements table, for recording a whole result
+ * day in one transaction. Sent as multi-row INSERTs when the driver runs
+ * with reWriteBatchedInserts=true (see application.properties).
+ */
+@Repository
+public class PlacementJdbcRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert rows of (studentId, companyId, placementDate, packageLpa, role)
+     */
+    public void insertPlacements(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO placements (student_id, company_id, placement_date, package_lpa, role, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, LOCALTIMESTAMP)",
+                rows);
+    }
+}
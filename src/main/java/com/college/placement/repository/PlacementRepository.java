@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.util.List;
 
 
@@ -16,6 +17,11 @@ public interface PlacementRepository extends JpaRepository<Placement, Integer> {
     
     List<Placement> findByCompany_CompanyId(Integer companyId);
     
-    @Query("SELECT p FROM Placement p WHERE YEAR(p.placementDate) = :year")
-    List<Placement> findByPlacementYear(@Param("year") Integer year);
+    // A date range rather than YEAR(placementDate), so the placement_date index applies
+    @Query("SELECT p FROM Placement p WHERE p.placementDate >= :from AND p.placementDate < :to")
+    List<Placement> findByPlacementDateRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    default List<Placement> findByPlacementYear(Integer year) {
+        return findByPlacementDateRange(LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.college.placement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Forward-only, cursor-backed reads for exports and streaming endpoints.
+ *
+ * PostgreSQL only honours the fetch size inside a transaction, so each query
+ * runs in its own read-only transaction and rows are handed to the callback
+ * FETCH_SIZE at a time instead of being buffered in full.
+ */
+@Repository
+public class StreamingJdbcRepository {
+    
+    private static final int FETCH_SIZE = 500;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    public void stream(String sql, RowCallbackHandler handler, Object... args) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        transaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(FETCH_SIZE);
+            new ArgumentPreparedStatementSetter(args).setValues(statement);
+            return statement;
+        }, handler));
+    }
+}
@@ -0,0 +1,145 @@
+package com.college.placement.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Set-based writes to the students table that are too large for JPA.
+ *
+ * Must be called inside a transaction: the staging table is a temp table
+ * dropped on commit, so it only lives as long as the surrounding import.
+ * Batches are sent as multi-row INSERTs when the driver runs with
+ * reWriteBatchedInserts=true (see application.properties).
+ */
+@Repository
+public class StudentJdbcRepository {
+
+    /**
+     * Largest CGPA that fits students.cgpa and the DECIMAL(3, 2) stage column
+     * and casts below. Callers must reject larger values per row: one of them
+     * would overflow and abort the whole statement.
+     */
+    public static final BigDecimal MAX_CGPA = new BigDecimal("9.99");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // ============================================
+    // ROSTER IMPORT
+    // ============================================
+
+    public void createImportStage() {
+        jdbcTemplate.execute(
+                "CREATE TEMP TABLE IF NOT EXISTS student_import_stage (" +
+                "student_id VARCHAR(20) PRIMARY KEY, " +
+                "name VARCHAR(100) NOT NULL, " +
+                "department VARCHAR(50) NOT NULL, " +
+                "batch_year INT NOT NULL, " +
+                "cgpa DECIMAL(3, 2), " +
+                "backlogs INT" +
+                ") ON COMMIT DROP");
+    }
+
+    /**
+     * Stage rows of (studentId, name, department, batchYear, cgpa, backlogs).
+     * cgpa and backlogs may be null, meaning "keep the current value".
+     */
+    public void stageImportRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO student_import_stage (student_id, name, department, batch_year, cgpa, backlogs) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+    }
+
+    /**
+     * Apply the staged rows to existing students
+     * @return number of students updated
+     */
+    public int updateFromImportStage() {
+        return jdbcTemplate.update(
+                "UPDATE students s SET " +
+                "name = i.name, department = i.department, batch_year = i.batch_year, " +
+                "cgpa = COALESCE(i.cgpa, s.cgpa), backlogs = COALESCE(i.backlogs, s.backlogs), " +
+                "updated_at = LOCALTIMESTAMP " +
+                "FROM student_import_stage i WHERE s.student_id = i.student_id");
+    }
+
+    /**
+     * Insert the staged rows that are not students yet
+     * @return number of students inserted
+     */
+    public int insertFromImportStage() {
+        return jdbcTemplate.update(
+                "INSERT INTO students (student_id, name, department, batch_year, cgpa, backlogs, " +
+                "placement_status, is_eligible_for_placement, created_at, updated_at) " +
+                "SELECT i.student_id, i.name, i.department, i.batch_year, " +
+                "COALESCE(i.cgpa, 0), COALESCE(i.backlogs, 0), 'NOT_PLACED', TRUE, LOCALTIMESTAMP, LOCALTIMESTAMP " +
+                "FROM student_import_stage i " +
+                "WHERE NOT EXISTS (SELECT 1 FROM students s WHERE s.student_id = i.student_id) " +
+                "ON CONFLICT (student_id) DO NOTHING");
+    }
+
+    // ============================================
+    // ACADEMIC RECORDS
+    // ============================================
+
+    /**
+     * Set cgpa and backlogs for rows of (studentId, cgpa, backlogs) in one
+     * UPDATE ... FROM (VALUES ...). Rows already holding the same values are
+     * left untouched.
+     *
+     * @return one row per student found: studentId, changed, department,
+     *         batchYear, cgpa, backlogs (the new values when changed)
+     */
+    public List<Object[]> updateAcademicRecords(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder values = new StringBuilder();
+        Object[] args = new Object[rows.size() * 3];
+        for (int i = 0; i < rows.size(); i++) {
+            values.append(i == 0 ? "" : ", ").append("(?, CAST(? AS DECIMAL(3, 2)), CAST(? AS INT))");
+            System.arraycopy(rows.get(i), 0, args, i * 3, 3);
+        }
+
+        String sql =
+                "WITH v (student_id, cgpa, backlogs) AS (VALUES " + values + "), " +
+                "changed AS (" +
+                "UPDATE students s SET cgpa = v.cgpa, backlogs = v.backlogs, updated_at = LOCALTIMESTAMP " +
+                "FROM v WHERE s.student_id = v.student_id " +
+                "AND (s.cgpa IS DISTINCT FROM v.cgpa OR s.backlogs IS DISTINCT FROM v.backlogs) " +
+                "RETURNING s.student_id, s.department, s.batch_year, s.cgpa, s.backlogs) " +
+                "SELECT s.student_id, c.student_id IS NOT NULL, s.department, s.batch_year, " +
+                "COALESCE(c.cgpa, s.cgpa), COALESCE(c.backlogs, s.backlogs) " +
+                "FROM v JOIN students s ON s.student_id = v.student_id " +
+                "LEFT JOIN changed c ON c.student_id = v.student_id";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new Object[] {
+                rs.getString(1), rs.getBoolean(2), rs.getString(3),
+                (Integer) rs.getObject(4), rs.getBigDecimal(5), (Integer) rs.getObject(6)}, args);
+    }
+
+    // ============================================
+    // PLACEMENTS
+    // ============================================
+
+    /**
+     * Mark students placed for rows of (companyPlaced, packageLpa, studentId)
+     */
+    public void recordPlacements(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE students SET placement_status = 'PLACED', company_placed = ?, package_lpa = ?, " +
+                "updated_at = LOCALTIMESTAMP WHERE student_id = ?",
+                rows);
+    }
+}
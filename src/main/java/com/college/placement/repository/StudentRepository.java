@@ -2,15 +2,23 @@
 package com.college.placement.repository;
 
 import com.college.placement.model.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, String> {
     
+    // Columns of StudentSummaryDTO, in field order
+    String STUDENT_ROW_SELECT = "SELECT s.studentId, s.name, s.department, s.batchYear, s.cgpa, " +
+            "s.backlogs, s.placementStatus, s.companyPlaced, s.packageLpa FROM Student s ";
+    
     List<Student> findByDepartment(String department);
     
     List<Student> findByBatchYear(Integer batchYear);
@@ -28,6 +36,20 @@ public interface StudentRepository extends JpaRepository<Student, String> {
     @Query("SELECT MAX(s.packageLpa) FROM Student s WHERE s.placementStatus = 'PLACED'")
     Double getHighestPackage();
     
+    // One pass over students for the overall dashboard:
+    // total, placed, placed with a package, package sum, package max,
+    // companies visited this year, expected companies this year
+    @Query("SELECT COUNT(s), " +
+           "COUNT(s) FILTER (WHERE s.placementStatus = 'PLACED'), " +
+           "COUNT(s.packageLpa) FILTER (WHERE s.placementStatus = 'PLACED'), " +
+           "SUM(s.packageLpa) FILTER (WHERE s.placementStatus = 'PLACED'), " +
+           "MAX(s.packageLpa) FILTER (WHERE s.placementStatus = 'PLACED'), " +
+           "(SELECT COUNT(DISTINCT c.companyName) FROM Company c WHERE c.visitYear = :year), " +
+           "(SELECT COUNT(e) FROM ExpectedCompany e WHERE e.expectedYear = :year " +
+           "AND (e.status = com.college.placement.model.ExpectedCompany$VisitStatus.CONFIRMED OR e.status = com.college.placement.model.ExpectedCompany$VisitStatus.EXPECTED)) " +
+           "FROM Student s")
+    List<Object[]> getOverallStatisticsRow(@Param("year") Integer year);
+    
     @Query("SELECT s.department, COUNT(s), " +
            "SUM(CASE WHEN s.placementStatus = 'PLACED' THEN 1 ELSE 0 END), " +
            "AVG(CASE WHEN s.placementStatus = 'PLACED' THEN s.packageLpa ELSE NULL END) " +
@@ -39,6 +61,31 @@ public interface StudentRepository extends JpaRepository<Student, String> {
            "AVG(CASE WHEN s.placementStatus = 'PLACED' THEN s.packageLpa ELSE NULL END) " +
            "FROM Student s GROUP BY s.batchYear ORDER BY s.batchYear DESC")
     List<Object[]> getYearStatistics();
+    
+    @Query("SELECT s.department, s.batchYear, s.packageLpa FROM Student s " +
+           "WHERE s.placementStatus = 'PLACED' AND s.packageLpa IS NOT NULL")
+    List<Object[]> findPlacedPackages();
+    
+    // Placement state of a batch of students: studentId, department, batchYear, placementStatus,
+    // companyPlaced, packageLpa
+    @Query("SELECT s.studentId, s.department, s.batchYear, s.placementStatus, s.companyPlaced, s.packageLpa " +
+           "FROM Student s WHERE s.studentId IN :ids")
+    List<Object[]> findPlacementStates(@Param("ids") Collection<String> ids);
+    
+    // Base cells of PlacementCube: department, batchYear, placementStatus, companyPlaced, packageLpa, count
+    @Query("SELECT s.department, s.batchYear, s.placementStatus, s.companyPlaced, s.packageLpa, COUNT(s) " +
+           "FROM Student s GROUP BY s.department, s.batchYear, s.placementStatus, s.companyPlaced, s.packageLpa")
+    List<Object[]> countByPlacementOutcome();
+    
+    @Query("SELECT s.studentId, s.department, s.batchYear, s.cgpa, s.backlogs FROM Student s")
+    List<Object[]> findAcademicProfiles();
+    
+    @Query(value = STUDENT_ROW_SELECT + "ORDER BY s.studentId",
+           countQuery = "SELECT COUNT(s) FROM Student s")
+    Page<Object[]> findStudentRows(Pageable pageable);
+    
+    @Query(STUDENT_ROW_SELECT + "WHERE s.studentId > :afterId ORDER BY s.studentId")
+    List<Object[]> findStudentRowsAfter(@Param("afterId") String afterId, Pageable pageable);
 }
 
 // ============================================
@@ -0,0 +1,38 @@
+package com.college.placement.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for in-memory state that must follow committed database state
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Run now, and once more after the surrounding transaction commits (if any).
+     * The second run covers readers that reloaded old data in between.
+     */
+    public static void runNowAndAfterCommit(Runnable action) {
+        action.run();
+        run(action);
+    }
+
+    /**
+     * Run after the surrounding transaction commits, or now if there is none
+     */
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -24,6 +24,15 @@ public class AuthService {
     @Autowired
     private StudentRepository studentRepository;
     
+    @Autowired
+    private StudentEligibilityIndex eligibilityIndex;
+    
+    @Autowired
+    private DataVersions dataVersions;
+    
+    @Autowired
+    private PlacementAggregateService aggregateService;
+    
     @Autowired
     private AuthenticationManager authenticationManager;
     
@@ -90,7 +99,11 @@ public class AuthService {
                         newStudent.setDepartment(request.getDepartment());
                         newStudent.setBatchYear(request.getBatchYear());
                         newStudent.setPlacementStatus(Student.PlacementStatus.NOT_PLACED);
-                        return studentRepository.save(newStudent);
+                        Student saved = studentRepository.save(newStudent);
+                        AfterCommit.run(() -> eligibilityIndex.upsert(saved));
+                        aggregateService.studentAdded(saved);
+                        dataVersions.bump(DataVersions.Domain.STUDENTS);
+                        return saved;
                     });
         }
         
@@ -19,6 +19,9 @@ public class CompanyService {
     @Autowired
     private CompanyRepository companyRepository;
     
+    @Autowired
+    private DataVersions dataVersions;
+    
     public List<Company> getAllCompanies() {
         return companyRepository.findAll();
     }
@@ -32,7 +35,9 @@ public class CompanyService {
     }
     
     public Company createCompany(Company company) {
-        return companyRepository.save(company);
+        Company saved = companyRepository.save(company);
+        dataVersions.bump(DataVersions.Domain.COMPANIES);
+        return saved;
     }
     
     public Company updateCompany(Integer companyId, Company companyDetails) {
@@ -44,10 +49,13 @@ public class CompanyService {
         company.setStudentsPlaced(companyDetails.getStudentsPlaced());
         company.setPackageOffered(companyDetails.getPackageOffered());
         
-        return companyRepository.save(company);
+        Company saved = companyRepository.save(company);
+        dataVersions.bump(DataVersions.Domain.COMPANIES);
+        return saved;
     }
     
     public void deleteCompany(Integer companyId) {
         companyRepository.deleteById(companyId);
+        dataVersions.bump(DataVersions.Domain.COMPANIES);
     }
 }
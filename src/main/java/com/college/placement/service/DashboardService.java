@@ -0,0 +1,121 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.*;
+import com.college.placement.model.Company;
+import com.college.placement.model.ExpectedCompany;
+import com.college.placement.model.PlacementAggregate;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Everything the admin home page shows, in one payload.
+ *
+ * Sections that read the same rows are fused (department and year statistics
+ * fold one read of placement_aggregates; every drive's funnel comes from one
+ * grouped query), and the independent sections run in parallel on a small
+ * bounded pool. Each section's wall time is reported alongside the data.
+ */
+@Service
+public class DashboardService {
+
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private PlacementAggregateService aggregateService;
+
+    @Autowired
+    private PlacementDriveService driveService;
+
+    @Autowired
+    private CompanyService companyService;
+
+    @Autowired
+    private ExpectedCompanyService expectedCompanyService;
+
+    private final ThreadPoolExecutor executor;
+
+    public DashboardService(@Value("${app.dashboard.threads:4}") int threads,
+                            @Value("${app.dashboard.queue-capacity:64}") int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // When saturated the request thread does the work itself instead of failing
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public AdminDashboardResponse getAdminDashboard() {
+        long start = System.nanoTime();
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+
+        CompletableFuture<PlacementStatisticsDTO> overall =
+                section("overall", timings, statisticsService::getOverallStatistics);
+        CompletableFuture<List<PlacementAggregate>> groups =
+                section("breakdown", timings, aggregateService::findGroups);
+        CompletableFuture<PackageDistributionResponse> packages =
+                section("packages", timings, statisticsService::getPackageDistribution);
+        CompletableFuture<List<PlacementDriveResponse>> drives =
+                section("drives", timings, () -> driveService.getAllDrives(null, null));
+        CompletableFuture<List<DriveStatisticsResponse>> driveStatistics =
+                section("driveStatistics", timings, driveService::getAllDriveStatistics);
+        CompletableFuture<List<Company>> companies =
+                section("companies", timings, companyService::getAllCompanies);
+        CompletableFuture<List<ExpectedCompany>> expectedCompanies =
+                section("expectedCompanies", timings, expectedCompanyService::getAllExpectedCompanies);
+
+        try {
+            CompletableFuture.allOf(overall, groups, packages, drives, driveStatistics,
+                    companies, expectedCompanies).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Failed to load dashboard: " + cause.getMessage(), cause);
+        }
+
+        List<PlacementAggregate> aggregates = groups.join();
+        Map<String, Long> ordered = new TreeMap<>(timings);
+        return AdminDashboardResponse.builder()
+                .overall(overall.join())
+                .departments(aggregateService.getDepartmentStatistics(aggregates))
+                .years(aggregateService.getYearStatistics(aggregates))
+                .packages(packages.join())
+                .drives(drives.join())
+                .driveStatistics(driveStatistics.join())
+                .companies(companies.join())
+                .expectedCompanies(expectedCompanies.join())
+                .timingsMs(ordered)
+                .totalMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+    }
+
+    private <T> CompletableFuture<T> section(String name, Map<String, Long> timings, Supplier<T> loader) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                return loader.get();
+            } finally {
+                timings.put(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }, executor);
+    }
+}
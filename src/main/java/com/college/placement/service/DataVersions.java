@@ -0,0 +1,44 @@
+package com.college.placement.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Version counters of the data behind cacheable GET endpoints.
+ *
+ * Every write bumps the counter of the data it touched, both immediately and
+ * after commit, and ETags are derived from the counters. A matching
+ * If-None-Match can then be answered with 304 without touching the database.
+ */
+@Component
+public class DataVersions {
+
+    public enum Domain {
+        DRIVES, STUDENTS, COMPANIES, PLACEMENTS
+    }
+
+    // Distinguishes restarts, since counters start again from 0
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLongArray versions = new AtomicLongArray(Domain.values().length);
+
+    public void bump(Domain... domains) {
+        AfterCommit.runNowAndAfterCommit(() -> {
+            for (Domain domain : domains) {
+                versions.incrementAndGet(domain.ordinal());
+            }
+        });
+    }
+
+    /**
+     * Strong ETag over the given domains, e.g. "lq2k9x.3.0"
+     */
+    public String etag(Domain... domains) {
+        StringBuilder etag = new StringBuilder("\"").append(epoch);
+        for (Domain domain : domains) {
+            etag.append('.').append(versions.get(domain.ordinal()));
+        }
+        return etag.append('"').toString();
+    }
+}
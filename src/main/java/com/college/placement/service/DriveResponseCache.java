@@ -0,0 +1,146 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.CacheStatsResponse;
+import com.college.placement.dto.PlacementDriveResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache of mapped PlacementDriveResponse objects.
+ *
+ * Two regions: single drives keyed by driveId, and drive lists keyed by the
+ * getAllDrives filter. Writers invalidate precisely (one drive plus every
+ * list) both immediately and again after their transaction commits, and a
+ * generation counter stops a reader that loaded before an invalidation from
+ * putting stale data back.
+ */
+@Component
+public class DriveResponseCache {
+
+    private final Region<Integer, PlacementDriveResponse> drives;
+    private final Region<String, List<PlacementDriveResponse>> lists;
+
+    public DriveResponseCache(@Value("${app.cache.drives.max-entries:1000}") int maxDrives,
+                              @Value("${app.cache.drive-lists.max-entries:100}") int maxLists) {
+        this.drives = new Region<>("drives", maxDrives);
+        this.lists = new Region<>("drive-lists", maxLists);
+    }
+
+    public PlacementDriveResponse getDrive(Integer driveId, Supplier<PlacementDriveResponse> loader) {
+        return drives.get(driveId, loader);
+    }
+
+    public List<PlacementDriveResponse> getList(String status, String company,
+                                                Supplier<List<PlacementDriveResponse>> loader) {
+        String key = (status != null ? status.toUpperCase() : "*") + "|" + (company != null ? company : "*");
+        return lists.get(key, () -> Collections.unmodifiableList(loader.get()));
+    }
+
+    /**
+     * A drive changed: drop it and every list that may contain it
+     */
+    public void evictDrive(Integer driveId) {
+        AfterCommit.runNowAndAfterCommit(() -> {
+            drives.evict(driveId);
+            lists.clear();
+        });
+    }
+
+    /**
+     * A drive was added: lists are stale, single drives are not
+     */
+    public void evictLists() {
+        AfterCommit.runNowAndAfterCommit(lists::clear);
+    }
+
+    public void clear() {
+        AfterCommit.runNowAndAfterCommit(() -> {
+            drives.clear();
+            lists.clear();
+        });
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        return List.of(drives.stats(), lists.stats());
+    }
+
+    /**
+     * LRU map with hit/miss counters
+     */
+    private static final class Region<K, V> {
+
+        private final String name;
+        private final int maxSize;
+        private final LinkedHashMap<K, V> entries;
+        private final AtomicLong hits = new AtomicLong();
+        private final AtomicLong misses = new AtomicLong();
+        private final AtomicLong evictions = new AtomicLong();
+        private long generation = 0;
+
+        Region(String name, int maxSize) {
+            this.name = name;
+            this.maxSize = maxSize;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    if (size() > Region.this.maxSize) {
+                        evictions.incrementAndGet();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        V get(K key, Supplier<V> loader) {
+            long loadGeneration;
+            synchronized (this) {
+                V cached = entries.get(key);
+                if (cached != null) {
+                    hits.incrementAndGet();
+                    return cached;
+                }
+                loadGeneration = generation;
+            }
+            misses.incrementAndGet();
+
+            // Load outside the lock so a slow query does not block other readers
+            V loaded = loader.get();
+            synchronized (this) {
+                if (loaded != null && generation == loadGeneration) {
+                    entries.put(key, loaded);
+                }
+            }
+            return loaded;
+        }
+
+        synchronized void evict(K key) {
+            generation++;
+            entries.remove(key);
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+        }
+
+        synchronized CacheStatsResponse stats() {
+            long hitCount = hits.get();
+            long missCount = misses.get();
+            long total = hitCount + missCount;
+            return CacheStatsResponse.builder()
+                    .region(name)
+                    .size(entries.size())
+                    .maxSize(maxSize)
+                    .hits(hitCount)
+                    .misses(missCount)
+                    .evictions(evictions.get())
+                    .hitRate(total > 0 ? (double) hitCount / total : 0.0)
+                    .build();
+        }
+    }
+}
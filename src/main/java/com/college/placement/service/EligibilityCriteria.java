@@ -0,0 +1,177 @@
+package com.college.placement.service;
+
+import com.college.placement.model.PlacementDrive;
+import com.college.placement.model.Student;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Pre-compiled eligibility rules of a single placement drive.
+ *
+ * Built once from the drive's eligibility columns so that matching a
+ * student does not allocate:
+ * - departments are kept as a set of interned strings
+ * - batches are kept as a bitset indexed from the lowest eligible batch
+ * - min CGPA is kept as an int scaled by 100 (8.25 -> 825)
+ */
+public final class EligibilityCriteria {
+
+    private final Integer driveId;
+    private final LocalDateTime updatedAt;
+
+    private final int minCgpaScaled;
+    private final int maxBacklogs;
+    private final Set<String> departments;
+    private final int batchBase;
+    private final long[] batchBits;
+
+    // Lists kept for responses, in the order the admin entered them
+    private final List<String> departmentList;
+    private final List<Integer> batchList;
+
+    private EligibilityCriteria(Integer driveId, LocalDateTime updatedAt, BigDecimal minCgpa,
+                                Integer maxBacklogs, List<String> departments, List<Integer> batches) {
+        this.driveId = driveId;
+        this.updatedAt = updatedAt;
+        this.minCgpaScaled = scaleCgpa(minCgpa);
+        this.maxBacklogs = maxBacklogs != null ? maxBacklogs : 0;
+
+        Set<String> deptSet = new HashSet<>();
+        List<String> deptList = new ArrayList<>();
+        for (String dept : departments) {
+            if (dept != null) {
+                String interned = dept.intern();
+                deptSet.add(interned);
+                deptList.add(interned);
+            }
+        }
+        this.departments = Collections.unmodifiableSet(deptSet);
+        this.departmentList = Collections.unmodifiableList(deptList);
+
+        List<Integer> batchValues = new ArrayList<>();
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (Integer batch : batches) {
+            if (batch != null) {
+                batchValues.add(batch);
+                min = Math.min(min, batch);
+                max = Math.max(max, batch);
+            }
+        }
+        this.batchList = Collections.unmodifiableList(batchValues);
+        if (batchValues.isEmpty()) {
+            this.batchBase = 0;
+            this.batchBits = new long[0];
+        } else {
+            this.batchBase = min;
+            this.batchBits = new long[((max - min) >>> 6) + 1];
+            for (int batch : batchValues) {
+                int offset = batch - min;
+                batchBits[offset >>> 6] |= 1L << offset;
+            }
+        }
+    }
+
+    /**
+     * Compile the criteria of a drive
+     */
+    public static EligibilityCriteria compile(PlacementDrive drive) {
+        List<String> depts = drive.getEligibleDepartments() != null
+                ? Arrays.asList(drive.getEligibleDepartments())
+                : List.of();
+        List<Integer> batches = drive.getEligibleBatches() != null
+                ? Arrays.asList(drive.getEligibleBatches())
+                : List.of();
+
+        return new EligibilityCriteria(drive.getDriveId(), drive.getUpdatedAt(),
+                drive.getMinCgpa(), drive.getMaxBacklogs(), depts, batches);
+    }
+
+    /**
+     * Compile criteria that are not saved to a drive yet (eligibility preview)
+     */
+    public static EligibilityCriteria draft(BigDecimal minCgpa, Integer maxBacklogs,
+                                            List<String> departments, List<Integer> batches) {
+        return new EligibilityCriteria(null, null, minCgpa, maxBacklogs,
+                departments != null ? departments : List.of(),
+                batches != null ? batches : List.of());
+    }
+
+    /**
+     * CGPA as an int scaled by 100, rounded half up. Null counts as 0.
+     */
+    public static int scaleCgpa(BigDecimal cgpa) {
+        if (cgpa == null) {
+            return 0;
+        }
+        return (int) Math.round(cgpa.doubleValue() * 100);
+    }
+
+    // ============================================
+    // MATCHING
+    // ============================================
+
+    public boolean matches(Student student) {
+        return meetsCgpa(scaleCgpa(student.getCgpa()))
+                && meetsBacklogs(student.getBacklogs() != null ? student.getBacklogs() : 0)
+                && acceptsDepartment(student.getDepartment())
+                && acceptsBatch(student.getBatchYear() != null ? student.getBatchYear() : Integer.MIN_VALUE);
+    }
+
+    public boolean meetsCgpa(int cgpaScaled) {
+        return cgpaScaled >= minCgpaScaled;
+    }
+
+    public boolean meetsBacklogs(int backlogs) {
+        return backlogs <= maxBacklogs;
+    }
+
+    public boolean acceptsDepartment(String department) {
+        return department != null && departments.contains(department);
+    }
+
+    public boolean acceptsBatch(int batchYear) {
+        long offset = (long) batchYear - batchBase;
+        if (offset < 0 || offset >= ((long) batchBits.length << 6)) {
+            return false;
+        }
+        return (batchBits[(int) (offset >>> 6)] & (1L << offset)) != 0;
+    }
+
+    /**
+     * Whether this compiled form still reflects the given drive version
+     */
+    public boolean isCurrentFor(PlacementDrive drive) {
+        return Objects.equals(updatedAt, drive.getUpdatedAt());
+    }
+
+    // ============================================
+    // ACCESSORS
+    // ============================================
+
+    public Integer getDriveId() {
+        return driveId;
+    }
+
+    public int getMinCgpaScaled() {
+        return minCgpaScaled;
+    }
+
+    public int getMaxBacklogs() {
+        return maxBacklogs;
+    }
+
+    public Set<String> getDepartments() {
+        return departments;
+    }
+
+    public List<String> getDepartmentList() {
+        return departmentList;
+    }
+
+    public List<Integer> getBatchList() {
+        return batchList;
+    }
+}
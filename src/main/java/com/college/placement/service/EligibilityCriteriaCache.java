@@ -0,0 +1,47 @@
+package com.college.placement.service;
+
+import com.college.placement.model.PlacementDrive;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled eligibility criteria cached per drive.
+ *
+ * Entries are keyed by driveId and validated against the drive's updatedAt,
+ * so a stale entry is recompiled even if an eviction was missed.
+ */
+@Component
+public class EligibilityCriteriaCache {
+
+    private final Map<Integer, EligibilityCriteria> criteriaByDrive = new ConcurrentHashMap<>();
+
+    /**
+     * Get compiled criteria for drive, compiling on first use or after a change
+     */
+    public EligibilityCriteria get(PlacementDrive drive) {
+        if (drive.getDriveId() == null) {
+            return EligibilityCriteria.compile(drive);
+        }
+
+        EligibilityCriteria cached = criteriaByDrive.get(drive.getDriveId());
+        if (cached != null && cached.isCurrentFor(drive)) {
+            return cached;
+        }
+
+        EligibilityCriteria compiled = EligibilityCriteria.compile(drive);
+        criteriaByDrive.put(drive.getDriveId(), compiled);
+        return compiled;
+    }
+
+    public void evict(Integer driveId) {
+        if (driveId != null) {
+            criteriaByDrive.remove(driveId);
+        }
+    }
+
+    public void clear() {
+        criteriaByDrive.clear();
+    }
+}
@@ -18,6 +18,9 @@ public class ExpectedCompanyService {
     @Autowired
     private ExpectedCompanyRepository expectedCompanyRepository;
     
+    @Autowired
+    private DataVersions dataVersions;
+    
     public List<ExpectedCompany> getAllExpectedCompanies() {
         return expectedCompanyRepository.findAll();
     }
@@ -35,7 +38,9 @@ public class ExpectedCompanyService {
     }
     
     public ExpectedCompany createExpectedCompany(ExpectedCompany expectedCompany) {
-        return expectedCompanyRepository.save(expectedCompany);
+        ExpectedCompany saved = expectedCompanyRepository.save(expectedCompany);
+        dataVersions.bump(DataVersions.Domain.COMPANIES);
+        return saved;
     }
     
     public ExpectedCompany updateExpectedCompany(Integer id, ExpectedCompany companyDetails) {
@@ -47,10 +52,13 @@ public class ExpectedCompanyService {
         company.setStatus(companyDetails.getStatus());
         company.setNotes(companyDetails.getNotes());
         
-        return expectedCompanyRepository.save(company);
+        ExpectedCompany saved = expectedCompanyRepository.save(company);
+        dataVersions.bump(DataVersions.Domain.COMPANIES);
+        return saved;
     }
     
     public void deleteExpectedCompany(Integer id) {
         expectedCompanyRepository.deleteById(id);
+        dataVersions.bump(DataVersions.Domain.COMPANIES);
     }
 }
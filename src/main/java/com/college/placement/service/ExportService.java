@@ -0,0 +1,268 @@
+package com.college.placement.service;
+
+import com.college.placement.repository.StreamingJdbcRepository;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming exports of students, applications and placements.
+ *
+ * Rows come from a forward-only JDBC cursor (StreamingJdbcRepository) and are
+ * written as they are read, so memory stays flat whatever the export size.
+ * CSV is flushed to the client right after the header row. XLSX goes through
+ * POI's SXSSF, which keeps a small window of rows in memory and spills the
+ * rest to a temp file until the workbook is written out at the end.
+ */
+@Service
+public class ExportService {
+
+    private static final int XLSX_ROW_WINDOW = 100;
+    private static final Pattern NUMBER = Pattern.compile("[-+]?\\d+(\\.\\d+)?");
+
+    @Autowired
+    private StreamingJdbcRepository streamingJdbcRepository;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    public enum Dataset {
+        STUDENTS(
+                new String[] {"Student ID", "Name", "Department", "Batch Year", "CGPA", "Backlogs",
+                        "Placement Status", "Company", "Role", "Package (LPA)", "Placement Date"},
+                "SELECT s.student_id, s.name, s.department, s.batch_year, s.cgpa, s.backlogs, " +
+                "s.placement_status, c.company_name, p.role, COALESCE(p.package_lpa, s.package_lpa), p.placement_date " +
+                "FROM students s " +
+                "LEFT JOIN placements p ON p.student_id = s.student_id " +
+                "LEFT JOIN companies c ON c.company_id = p.company_id",
+                "s.student_id, p.placement_id"),
+        APPLICATIONS(
+                new String[] {"Application ID", "Student ID", "Name", "Department", "Batch Year", "CGPA",
+                        "Company", "Job Role", "Drive Date", "Status", "Applied At", "Updated At"},
+                "SELECT a.application_id, s.student_id, s.name, s.department, s.batch_year, s.cgpa, " +
+                "d.company_name, d.job_role, d.drive_date, a.status, a.applied_at, a.updated_at " +
+                "FROM applications a " +
+                "JOIN students s ON s.student_id = a.student_id " +
+                "JOIN placement_drives d ON d.drive_id = a.drive_id",
+                "a.application_id"),
+        PLACEMENTS(
+                new String[] {"Placement ID", "Student ID", "Name", "Department", "Batch Year",
+                        "Company", "Visit Year", "Role", "Package (LPA)", "Placement Date"},
+                "SELECT p.placement_id, s.student_id, s.name, s.department, s.batch_year, " +
+                "c.company_name, c.visit_year, p.role, p.package_lpa, p.placement_date " +
+                "FROM placements p " +
+                "JOIN students s ON s.student_id = p.student_id " +
+                "JOIN companies c ON c.company_id = p.company_id",
+                "p.placement_id");
+
+        private final String[] headers;
+        private final String select;
+        private final String orderBy;
+
+        Dataset(String[] headers, String select, String orderBy) {
+            this.headers = headers;
+            this.select = select;
+            this.orderBy = orderBy;
+        }
+    }
+
+    public Dataset resolveDataset(String dataset) {
+        try {
+            return Dataset.valueOf(dataset.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown export: " + dataset
+                    + " (expected students, applications or placements)");
+        }
+    }
+
+    public Format resolveFormat(String format) {
+        if (format == null || format.isBlank()) {
+            return Format.CSV;
+        }
+        try {
+            return Format.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported format: " + format + " (expected csv or xlsx)");
+        }
+    }
+
+    /**
+     * Write the dataset, optionally filtered by department and batch year
+     */
+    public void export(Dataset dataset, Format format, String department, Integer batchYear,
+                       OutputStream out) throws IOException {
+        StringBuilder sql = new StringBuilder(dataset.select);
+        List<Object> args = new ArrayList<>();
+        String glue = " WHERE ";
+        if (department != null && !department.isBlank()) {
+            sql.append(glue).append("s.department = ?");
+            args.add(department);
+            glue = " AND ";
+        }
+        if (batchYear != null) {
+            sql.append(glue).append("s.batch_year = ?");
+            args.add(batchYear);
+        }
+        sql.append(" ORDER BY ").append(dataset.orderBy);
+
+        if (format == Format.CSV) {
+            writeCsv(dataset, sql.toString(), args.toArray(), out);
+        } else {
+            writeXlsx(dataset, sql.toString(), args.toArray(), out);
+        }
+    }
+
+    // ============================================
+    // CSV
+    // ============================================
+
+    private void writeCsv(Dataset dataset, String sql, Object[] args, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        writeCsvLine(writer, dataset.headers);
+        writer.flush();
+
+        int columns = dataset.headers.length;
+        String[] values = new String[columns];
+        try {
+            streamingJdbcRepository.stream(sql, rs -> {
+                for (int i = 0; i < columns; i++) {
+                    values[i] = formatValue(rs, i + 1);
+                }
+                try {
+                    writeCsvLine(writer, values);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        // Names are user-supplied; keep spreadsheets from evaluating them as formulas
+        boolean formula = startsLikeFormula(value);
+        if (formula) {
+            value = "'" + value;
+        }
+        boolean needsQuotes = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static boolean startsLikeFormula(String value) {
+        if (value.isEmpty() || NUMBER.matcher(value).matches()) {
+            return false; // a plain number such as -1.5 is not a formula
+        }
+        char first = value.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@'
+                || first == '\t' || first == '\r';
+    }
+
+    // ============================================
+    // XLSX
+    // ============================================
+
+    private void writeXlsx(Dataset dataset, String sql, Object[] args, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            Sheet sheet = workbook.createSheet(dataset.name().charAt(0) + dataset.name().substring(1).toLowerCase());
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < dataset.headers.length; i++) {
+                header.createCell(i).setCellValue(dataset.headers[i]);
+            }
+
+            int columns = dataset.headers.length;
+            int[] rowIndex = {1};
+            streamingJdbcRepository.stream(sql, rs -> {
+                Row row = sheet.createRow(rowIndex[0]++);
+                for (int i = 0; i < columns; i++) {
+                    Object value = rs.getObject(i + 1);
+                    if (value == null) {
+                        continue;
+                    }
+                    Cell cell = row.createCell(i);
+                    if (value instanceof Number) {
+                        cell.setCellValue(((Number) value).doubleValue());
+                    } else {
+                        cell.setCellValue(formatValue(rs, i + 1));
+                    }
+                }
+            }, args);
+
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    // ============================================
+    // HELPERS
+    // ============================================
+
+    private static String formatValue(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().toString();
+        }
+        if (value instanceof java.sql.Date) {
+            return ((java.sql.Date) value).toLocalDate().toString();
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.college.placement.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Decides whether a lazily loaded in-memory view may be kept, for views that
+ * are maintained by deltas applied after commit.
+ *
+ * A load that runs after a writer commits but before its after-commit delta
+ * already contains the change, so applying the delta would count it twice.
+ * Writers call changeStarted() inside their transaction; it bumps a
+ * generation (as DriveResponseCache does) and counts the writer as in flight
+ * until its transaction completes. A load may only be published if no writer
+ * was in flight when it started and the generation has not moved since.
+ */
+final class LoadGuard {
+
+    private long generation = 0;
+    private int inFlight = 0;
+
+    /**
+     * Call inside the writer's transaction, before its delta is registered
+     */
+    void changeStarted() {
+        synchronized (this) {
+            generation++;
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                return; // already committed; the bump alone discards racing loads
+            }
+            inFlight++;
+        }
+        // afterCompletion runs after every afterCommit callback, so the delta is applied first
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (LoadGuard.this) {
+                    inFlight--;
+                }
+            }
+        });
+    }
+
+    /**
+     * Discard any load in progress (the view is being invalidated)
+     */
+    synchronized void invalidate() {
+        generation++;
+    }
+
+    /**
+     * Token for a load about to start, or -1 if it could never be published
+     */
+    synchronized long beginLoad() {
+        return inFlight == 0 ? generation : -1;
+    }
+
+    /**
+     * Whether a load started with this token saw exactly the committed state
+     * that later deltas build on
+     */
+    synchronized boolean canPublish(long token) {
+        return token >= 0 && token == generation;
+    }
+}
@@ -0,0 +1,238 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.PlacementStatisticsDTO;
+import com.college.placement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Year;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory snapshot of the overall placement statistics.
+ *
+ * Loaded with one aggregate query and then kept current by applying each
+ * recorded placement as a delta after its transaction commits. Writes that
+ * do not go through recordPlacement (student or company CRUD, imports) are
+ * picked up when the snapshot expires after app.statistics.snapshot-ttl-seconds.
+ *
+ * Every change to the snapshot gets a new version, and the ETag is derived
+ * from it, so a client is never told "not modified" for data it has not seen.
+ * A reload on expiry that finds the same totals keeps the current version, so
+ * the ETag only changes when the statistics do.
+ *
+ * A LoadGuard keeps a reload that raced with a placement from being kept,
+ * since the placement's delta would then be counted twice; such a reload is
+ * only served to the request that made it.
+ */
+@Component
+public class OverallStatisticsSnapshot {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Value("${app.statistics.snapshot-ttl-seconds:30}")
+    private long ttlSeconds;
+
+    // Distinguishes restarts, since versions start again from 0
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final LoadGuard loadGuard = new LoadGuard();
+
+    private Totals totals;
+    private long version = 0;
+    private Entry current;
+    // Copy of the totals behind current, so a reload with equal data keeps its ETag
+    private Totals published;
+
+    /**
+     * Current statistics and their ETag, reloading if expired
+     */
+    public synchronized Entry current() {
+        int year = Year.now().getValue();
+        if (totals == null || totals.year != year
+                || System.nanoTime() - totals.loadedAt > TimeUnit.SECONDS.toNanos(ttlSeconds)) {
+            long token = loadGuard.beginLoad();
+            Totals loaded = load(year);
+            if (!loadGuard.canPublish(token)) {
+                // Private to this request; the next call reloads
+                if (current != null && loaded.sameAs(published)) {
+                    return current;
+                }
+                version++;
+                return new Entry(etag(), loaded.toDto());
+            }
+            totals = loaded;
+        }
+        if (current == null || !totals.sameAs(published)) {
+            version++;
+            published = totals.copy();
+            current = new Entry(etag(), totals.toDto());
+        }
+        return current;
+    }
+
+    /**
+     * Apply a placement to the snapshot once the surrounding transaction commits.
+     *
+     * @param wasPlaced        whether the student was already placed before
+     * @param previousPackage  the student's package before, if already placed
+     * @param newPackage       the package of this placement
+     * @param newCompany       whether a company was created for the current year
+     */
+    public void recordPlacement(boolean wasPlaced, BigDecimal previousPackage,
+                                BigDecimal newPackage, boolean newCompany) {
+        loadGuard.changeStarted();
+        AfterCommit.run(() -> applyPlacement(wasPlaced, previousPackage, newPackage, newCompany));
+    }
+
+    public synchronized void invalidate() {
+        loadGuard.invalidate();
+        totals = null;
+    }
+
+    private synchronized void applyPlacement(boolean wasPlaced, BigDecimal previousPackage,
+                                             BigDecimal newPackage, boolean newCompany) {
+        if (totals == null) {
+            return;
+        }
+        if (wasPlaced && previousPackage != null && totals.maxPackage != null
+                && previousPackage.compareTo(totals.maxPackage) == 0
+                && (newPackage == null || newPackage.compareTo(previousPackage) < 0)) {
+            // The old maximum may have been replaced by a lower package
+            invalidate();
+            return;
+        }
+
+        if (!wasPlaced) {
+            totals.placed++;
+        }
+        if (wasPlaced && previousPackage != null) {
+            totals.packageCount--;
+            totals.packageSum = totals.packageSum.subtract(previousPackage);
+        }
+        if (newPackage != null) {
+            totals.packageCount++;
+            totals.packageSum = totals.packageSum.add(newPackage);
+            if (totals.maxPackage == null || newPackage.compareTo(totals.maxPackage) > 0) {
+                totals.maxPackage = newPackage;
+            }
+        }
+        if (newCompany) {
+            totals.companiesVisited++;
+        }
+    }
+
+    private String etag() {
+        return "\"overall." + epoch + "." + version + "\"";
+    }
+
+    private Totals load(int year) {
+        Object[] row = studentRepository.getOverallStatisticsRow(year).get(0);
+
+        Totals loaded = new Totals();
+        loaded.year = year;
+        loaded.loadedAt = System.nanoTime();
+        loaded.totalStudents = toLong(row[0]);
+        loaded.placed = toLong(row[1]);
+        loaded.packageCount = toLong(row[2]);
+        loaded.packageSum = row[3] != null ? new BigDecimal(row[3].toString()) : BigDecimal.ZERO;
+        loaded.maxPackage = row[4] != null ? new BigDecimal(row[4].toString()) : null;
+        loaded.companiesVisited = toLong(row[5]);
+        loaded.expectedCompanies = toLong(row[6]);
+        return loaded;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * Immutable statistics plus the ETag identifying them
+     */
+    public static final class Entry {
+        private final String etag;
+        private final PlacementStatisticsDTO statistics;
+
+        Entry(String etag, PlacementStatisticsDTO statistics) {
+            this.etag = etag;
+            this.statistics = statistics;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+
+        public PlacementStatisticsDTO getStatistics() {
+            return statistics;
+        }
+    }
+
+    // Mutable running totals, guarded by the snapshot's monitor
+    private static final class Totals {
+        int year;
+        long loadedAt;
+        long totalStudents;
+        long placed;
+        long packageCount;
+        BigDecimal packageSum;
+        BigDecimal maxPackage;
+        long companiesVisited;
+        long expectedCompanies;
+
+        Totals copy() {
+            Totals copy = new Totals();
+            copy.year = year;
+            copy.loadedAt = loadedAt;
+            copy.totalStudents = totalStudents;
+            copy.placed = placed;
+            copy.packageCount = packageCount;
+            copy.packageSum = packageSum;
+            copy.maxPackage = maxPackage;
+            copy.companiesVisited = companiesVisited;
+            copy.expectedCompanies = expectedCompanies;
+            return copy;
+        }
+
+        // Same statistics, regardless of when they were loaded
+        boolean sameAs(Totals other) {
+            return other != null
+                    && year == other.year
+                    && totalStudents == other.totalStudents
+                    && placed == other.placed
+                    && packageCount == other.packageCount
+                    && sameValue(packageSum, other.packageSum)
+                    && sameValue(maxPackage, other.maxPackage)
+                    && companiesVisited == other.companiesVisited
+                    && expectedCompanies == other.expectedCompanies;
+        }
+
+        private static boolean sameValue(BigDecimal a, BigDecimal b) {
+            return a == null ? b == null : b != null && a.compareTo(b) == 0;
+        }
+
+        PlacementStatisticsDTO toDto() {
+            BigDecimal placementPercentage = BigDecimal.ZERO;
+            if (totalStudents > 0) {
+                placementPercentage = BigDecimal.valueOf(placed)
+                        .multiply(BigDecimal.valueOf(100))
+                        .divide(BigDecimal.valueOf(totalStudents), 2, RoundingMode.HALF_UP);
+            }
+
+            return PlacementStatisticsDTO.builder()
+                    .totalStudents(totalStudents)
+                    .studentsPlaced(placed)
+                    .placementPercentage(placementPercentage)
+                    .averagePackage(packageCount > 0
+                            ? packageSum.divide(BigDecimal.valueOf(packageCount), 2, RoundingMode.HALF_UP)
+                            : null)
+                    .highestPackage(maxPackage != null ? maxPackage.setScale(2, RoundingMode.HALF_UP) : null)
+                    .companiesVisited(companiesVisited)
+                    .expectedCompanies(expectedCompanies)
+                    .build();
+        }
+    }
+}
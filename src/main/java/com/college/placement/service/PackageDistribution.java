@@ -0,0 +1,150 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.PackageDistributionResponse;
+import com.college.placement.dto.PackagePercentilesDTO;
+import com.college.placement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Package percentiles overall, per department and per batch year, served
+ * from PackageSketch instances instead of sorting packages on each request.
+ *
+ * Built with one pass over placed students on first use, then maintained by
+ * PlacementAggregateService after each placement or student change commits.
+ * A rebuild of the aggregates discards the sketches so they are rebuilt too.
+ * A LoadGuard keeps a load that raced with a change from being kept, since
+ * the change's delta would then be counted twice.
+ */
+@Component
+public class PackageDistribution {
+
+    private static final String ALL = "ALL";
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private final LoadGuard loadGuard = new LoadGuard();
+
+    // null until loaded
+    private Sketches sketches;
+
+    public PackageDistributionResponse getDistribution() {
+        while (true) {
+            Sketches unpublished = ensureLoaded();
+            if (unpublished != null) {
+                return unpublished.describe(); // private to this request
+            }
+            synchronized (this) {
+                if (sketches != null) {
+                    return sketches.describe();
+                }
+            }
+        }
+    }
+
+    /**
+     * Call inside the transaction that changes a package, before packageChanged
+     * is registered to run after commit
+     */
+    public void changeStarted() {
+        loadGuard.changeStarted();
+    }
+
+    /**
+     * A placed student's package appeared (previous == null), disappeared
+     * (current == null) or changed
+     */
+    public synchronized void packageChanged(String department, Integer batchYear,
+                                            BigDecimal previous, BigDecimal current) {
+        if (sketches == null) {
+            return; // picked up by the next load
+        }
+        if (previous != null) {
+            sketches.sketchesFor(department, batchYear).forEach(sketch -> sketch.remove(previous));
+        }
+        if (current != null) {
+            sketches.sketchesFor(department, batchYear).forEach(sketch -> sketch.add(current));
+        }
+    }
+
+    public synchronized void invalidate() {
+        loadGuard.invalidate();
+        sketches = null;
+    }
+
+    /**
+     * Load the sketches if needed, outside the lock. Returns null once they
+     * are published, or the loaded sketches when the load raced with a change
+     * and could not be kept.
+     */
+    private Sketches ensureLoaded() {
+        synchronized (this) {
+            if (sketches != null) {
+                return null;
+            }
+        }
+        long token = loadGuard.beginLoad();
+        Sketches loaded = new Sketches();
+        for (Object[] row : studentRepository.findPlacedPackages()) {
+            BigDecimal pkg = (BigDecimal) row[2];
+            loaded.sketchesFor((String) row[0], (Integer) row[1]).forEach(sketch -> sketch.add(pkg));
+        }
+        synchronized (this) {
+            if (sketches == null && loadGuard.canPublish(token)) {
+                sketches = loaded;
+                return null;
+            }
+        }
+        return loaded;
+    }
+
+    private static final class Sketches {
+        final PackageSketch overall = new PackageSketch();
+        final Map<String, PackageSketch> byDepartment = new HashMap<>();
+        final Map<Integer, PackageSketch> byYear = new HashMap<>();
+
+        List<PackageSketch> sketchesFor(String department, Integer batchYear) {
+            List<PackageSketch> sketches = new ArrayList<>(3);
+            sketches.add(overall);
+            if (department != null) {
+                sketches.add(byDepartment.computeIfAbsent(department, k -> new PackageSketch()));
+            }
+            if (batchYear != null) {
+                sketches.add(byYear.computeIfAbsent(batchYear, k -> new PackageSketch()));
+            }
+            return sketches;
+        }
+
+        PackageDistributionResponse describe() {
+            return PackageDistributionResponse.builder()
+                    .overall(percentiles(ALL, overall))
+                    .byDepartment(byDepartment.entrySet().stream()
+                            .filter(e -> e.getValue().count() > 0)
+                            .sorted(Map.Entry.comparingByKey())
+                            .map(e -> percentiles(e.getKey(), e.getValue()))
+                            .collect(Collectors.toList()))
+                    .byYear(byYear.entrySet().stream()
+                            .filter(e -> e.getValue().count() > 0)
+                            .sorted(Map.Entry.<Integer, PackageSketch>comparingByKey().reversed())
+                            .map(e -> percentiles(String.valueOf(e.getKey()), e.getValue()))
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+    }
+
+    private static PackagePercentilesDTO percentiles(String group, PackageSketch sketch) {
+        return PackagePercentilesDTO.builder()
+                .group(group)
+                .placedWithPackage(sketch.count())
+                .p50(sketch.quantile(0.50))
+                .p75(sketch.quantile(0.75))
+                .p90(sketch.quantile(0.90))
+                .p99(sketch.quantile(0.99))
+                .build();
+    }
+}
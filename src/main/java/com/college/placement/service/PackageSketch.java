@@ -0,0 +1,126 @@
+package com.college.placement.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Quantile sketch of package values with 1% relative accuracy.
+ *
+ * Values are counted in logarithmic buckets (bucket i holds values in
+ * (gamma^(i-1), gamma^i]), as in DDSketch. Unlike t-digest or KLL this
+ * supports removals exactly, which a re-placement or a deleted student
+ * needs. Memory is bounded by MAX_BINS: the whole 0.01 to 10,000 LPA range
+ * fits in about 700 buckets, and lower buckets are merged beyond that.
+ *
+ * Not thread-safe; PackageDistribution guards all access.
+ */
+final class PackageSketch {
+
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+    private static final double MIN_VALUE = 0.01;
+    private static final int MAX_BINS = 2048;
+    private static final int INITIAL_BINS = 64;
+
+    private long[] bins = new long[0];
+    private int offset;         // bucket index of bins[0]
+    private long zeroCount;     // values below MIN_VALUE
+    private long count;
+
+    void add(BigDecimal value) {
+        if (value != null) {
+            adjust(value.doubleValue(), 1);
+        }
+    }
+
+    void remove(BigDecimal value) {
+        if (value != null) {
+            adjust(value.doubleValue(), -1);
+        }
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * Estimated value at quantile q (0..1), or null when empty
+     */
+    BigDecimal quantile(double q) {
+        if (count <= 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(q * (count - 1));
+        if (rank < zeroCount) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        long seen = zeroCount;
+        for (int i = 0; i < bins.length; i++) {
+            seen += bins[i];
+            if (seen > rank) {
+                double estimate = 2 * Math.pow(GAMMA, offset + i) / (GAMMA + 1);
+                return BigDecimal.valueOf(estimate).setScale(2, RoundingMode.HALF_UP);
+            }
+        }
+        return null;
+    }
+
+    private void adjust(double value, long delta) {
+        if (value < MIN_VALUE) {
+            if (zeroCount + delta >= 0) {
+                zeroCount += delta;
+                count += delta;
+            }
+            return;
+        }
+        int index = (int) Math.ceil(Math.log(value) / LOG_GAMMA);
+        int slot = slotFor(index);
+        if (bins[slot] + delta >= 0) {
+            bins[slot] += delta;
+            count += delta;
+        }
+    }
+
+    // Position of a bucket in bins, growing or collapsing as needed
+    private int slotFor(int index) {
+        if (bins.length == 0) {
+            bins = new long[INITIAL_BINS];
+            offset = index - INITIAL_BINS / 2;
+        }
+        if (index < offset) {
+            int grow = offset - index;
+            if (bins.length + grow > MAX_BINS) {
+                return 0; // below the kept range: counted in the lowest bucket
+            }
+            long[] grown = new long[Math.min(MAX_BINS, bins.length + Math.max(grow, INITIAL_BINS))];
+            int shift = grown.length - bins.length;
+            System.arraycopy(bins, 0, grown, shift, bins.length);
+            bins = grown;
+            offset -= shift;
+        } else if (index >= offset + bins.length) {
+            int needed = index - offset + 1;
+            if (needed > MAX_BINS) {
+                collapseLowest(needed - MAX_BINS);
+                needed = index - offset + 1;
+            }
+            bins = Arrays.copyOf(bins, Math.min(MAX_BINS, Math.max(needed, bins.length * 2)));
+        }
+        return index - offset;
+    }
+
+    // Merge the lowest buckets into the next one to make room at the top
+    private void collapseLowest(int buckets) {
+        buckets = Math.min(buckets, bins.length - 1);
+        long merged = 0;
+        for (int i = 0; i <= buckets; i++) {
+            merged += bins[i];
+        }
+        long[] shifted = new long[bins.length];
+        System.arraycopy(bins, buckets, shifted, 0, bins.length - buckets);
+        shifted[0] = merged;
+        bins = shifted;
+        offset += buckets;
+    }
+}
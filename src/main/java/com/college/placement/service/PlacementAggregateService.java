@@ -0,0 +1,282 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.*;
+import com.college.placement.model.*;
+import com.college.placement.repository.PlacementAggregateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Placement totals per (department, batch year), kept in placement_aggregates.
+ *
+ * Writers call the student/placement hooks inside their own transaction, so
+ * the aggregates commit or roll back together with the change. Department and
+ * year statistics are then folded from the groups instead of scanning
+ * students. rebuild() recomputes every group from students to repair drift.
+ *
+ * The same hooks keep PackageDistribution's percentile sketches and the
+ * PlacementCube current, applied after commit since they live in memory.
+ */
+@Service
+public class PlacementAggregateService {
+
+    @Autowired
+    private PlacementAggregateRepository aggregateRepository;
+
+    @Autowired
+    private PackageDistribution packageDistribution;
+
+    @Autowired
+    private PlacementCube placementCube;
+
+    // ============================================
+    // MAINTENANCE HOOKS
+    // ============================================
+
+    public void studentAdded(Student student) {
+        boolean placed = student.getPlacementStatus() == Student.PlacementStatus.PLACED;
+        BigDecimal pkg = placed ? student.getPackageLpa() : null;
+        aggregateRepository.adjust(student.getDepartment(), student.getBatchYear(),
+                1, placed ? 1 : 0, pkg != null ? 1 : 0,
+                pkg != null ? pkg : BigDecimal.ZERO, pkg);
+        if (pkg != null) {
+            packageChangedAfterCommit(student.getDepartment(), student.getBatchYear(), null, pkg);
+        }
+        cubeChangedAfterCommit(null, PlacementCube.Fact.of(student));
+    }
+
+    /**
+     * Call after the student row has been deleted
+     */
+    public void studentRemoved(Student student) {
+        boolean placed = student.getPlacementStatus() == Student.PlacementStatus.PLACED;
+        BigDecimal pkg = placed ? student.getPackageLpa() : null;
+        aggregateRepository.adjust(student.getDepartment(), student.getBatchYear(),
+                -1, placed ? -1 : 0, pkg != null ? -1 : 0,
+                pkg != null ? pkg.negate() : BigDecimal.ZERO, null);
+        if (pkg != null) {
+            aggregateRepository.recomputePackageMax(student.getDepartment(), student.getBatchYear());
+            packageChangedAfterCommit(student.getDepartment(), student.getBatchYear(), pkg, null);
+        }
+        cubeChangedAfterCommit(PlacementCube.Fact.of(student), null);
+    }
+
+    /**
+     * Call after the student has been saved under its new department or batch
+     */
+    public void studentMoved(String previousDepartment, Integer previousBatchYear, Student student) {
+        if (Objects.equals(previousDepartment, student.getDepartment())
+                && Objects.equals(previousBatchYear, student.getBatchYear())) {
+            return;
+        }
+        Student previous = new Student();
+        previous.setDepartment(previousDepartment);
+        previous.setBatchYear(previousBatchYear);
+        previous.setPlacementStatus(student.getPlacementStatus());
+        previous.setCompanyPlaced(student.getCompanyPlaced());
+        previous.setPackageLpa(student.getPackageLpa());
+        studentRemoved(previous);
+        studentAdded(student);
+    }
+
+    /**
+     * Call after the student has been saved as placed with the new package
+     */
+    public void placementRecorded(Student student, boolean wasPlaced,
+                                  String previousCompany, BigDecimal previousPackage) {
+        BigDecimal pkg = student.getPackageLpa();
+        long packageCountDelta = (pkg != null ? 1 : 0) - (previousPackage != null ? 1 : 0);
+        BigDecimal packageSumDelta = (pkg != null ? pkg : BigDecimal.ZERO)
+                .subtract(previousPackage != null ? previousPackage : BigDecimal.ZERO);
+
+        aggregateRepository.adjust(student.getDepartment(), student.getBatchYear(),
+                0, wasPlaced ? 0 : 1, packageCountDelta, packageSumDelta, pkg);
+        if (previousPackage != null && (pkg == null || pkg.compareTo(previousPackage) < 0)) {
+            aggregateRepository.recomputePackageMax(student.getDepartment(), student.getBatchYear());
+        }
+        packageChangedAfterCommit(student.getDepartment(), student.getBatchYear(), previousPackage, pkg);
+        cubeChangedAfterCommit(
+                new PlacementCube.Fact(student.getDepartment(), student.getBatchYear(),
+                        wasPlaced, previousCompany, previousPackage),
+                PlacementCube.Fact.of(student));
+    }
+
+    /**
+     * Batch form of placementRecorded, with one adjust per (department, batch)
+     * group. Call after the students have been saved as placed;
+     * previous.get(i) is students.get(i) as it was before.
+     */
+    public void placementsRecorded(List<Student> previous, List<Student> students) {
+        SortedMap<String, SortedMap<Integer, PlacementDelta>> deltas = new TreeMap<>();
+        for (int i = 0; i < students.size(); i++) {
+            Student before = previous.get(i);
+            Student student = students.get(i);
+            boolean wasPlaced = before.getPlacementStatus() == Student.PlacementStatus.PLACED;
+            BigDecimal previousPackage = wasPlaced ? before.getPackageLpa() : null;
+            BigDecimal pkg = student.getPackageLpa();
+
+            PlacementDelta delta = deltas.computeIfAbsent(student.getDepartment(), k -> new TreeMap<>())
+                    .computeIfAbsent(student.getBatchYear(), k -> new PlacementDelta());
+            delta.placed += wasPlaced ? 0 : 1;
+            delta.packageCount += (pkg != null ? 1 : 0) - (previousPackage != null ? 1 : 0);
+            delta.packageSum = delta.packageSum
+                    .add(pkg != null ? pkg : BigDecimal.ZERO)
+                    .subtract(previousPackage != null ? previousPackage : BigDecimal.ZERO);
+            if (pkg != null && (delta.packageMax == null || pkg.compareTo(delta.packageMax) > 0)) {
+                delta.packageMax = pkg;
+            }
+            if (previousPackage != null && (pkg == null || pkg.compareTo(previousPackage) < 0)) {
+                delta.recomputeMax = true;
+            }
+
+            packageChangedAfterCommit(student.getDepartment(), student.getBatchYear(), previousPackage, pkg);
+            cubeChangedAfterCommit(PlacementCube.Fact.of(before), PlacementCube.Fact.of(student));
+        }
+
+        // Groups in a fixed order, so concurrent batches lock rows in the same order
+        deltas.forEach((department, byBatch) -> byBatch.forEach((batchYear, delta) -> {
+            aggregateRepository.adjust(department, batchYear, 0, delta.placed,
+                    delta.packageCount, delta.packageSum, delta.packageMax);
+            if (delta.recomputeMax) {
+                aggregateRepository.recomputePackageMax(department, batchYear);
+            }
+        }));
+    }
+
+    /**
+     * Recompute every group from the students table
+     * @return number of groups
+     */
+    @Transactional
+    @Scheduled(cron = "${app.statistics.aggregate-rebuild-cron:0 45 3 * * *}")
+    public int rebuild() {
+        aggregateRepository.deleteAllGroups();
+        int groups = aggregateRepository.insertAllGroupsFromStudents();
+        AfterCommit.run(packageDistribution::invalidate);
+        AfterCommit.run(placementCube::invalidate);
+        return groups;
+    }
+
+    /**
+     * Populate the table on first start after upgrading
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (aggregateRepository.count() == 0) {
+            rebuild();
+        }
+    }
+
+    private void packageChangedAfterCommit(String department, Integer batchYear,
+                                           BigDecimal previous, BigDecimal current) {
+        packageDistribution.changeStarted();
+        AfterCommit.run(() -> packageDistribution.packageChanged(department, batchYear, previous, current));
+    }
+
+    // Facts are captured now, since the Student may change before commit
+    private void cubeChangedAfterCommit(PlacementCube.Fact previous, PlacementCube.Fact current) {
+        placementCube.changeStarted();
+        AfterCommit.run(() -> placementCube.studentChanged(previous, current));
+    }
+
+    // ============================================
+    // READS
+    // ============================================
+
+    public List<DepartmentStatisticsDTO> getDepartmentStatistics() {
+        return getDepartmentStatistics(findGroups());
+    }
+
+    public List<YearStatisticsDTO> getYearStatistics() {
+        return getYearStatistics(findGroups());
+    }
+
+    /**
+     * All groups, so department and year statistics can be folded from one read
+     */
+    public List<PlacementAggregate> findGroups() {
+        return aggregateRepository.findAll();
+    }
+
+    public List<DepartmentStatisticsDTO> getDepartmentStatistics(List<PlacementAggregate> aggregates) {
+        return fold(aggregates, PlacementAggregate::getDepartment, Comparator.naturalOrder()).entrySet().stream()
+                .map(e -> DepartmentStatisticsDTO.builder()
+                        .department(e.getKey())
+                        .totalStudents(e.getValue().total)
+                        .studentsPlaced(e.getValue().placed)
+                        .placementPercentage(e.getValue().percentage())
+                        .averagePackage(e.getValue().averagePackage())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<YearStatisticsDTO> getYearStatistics(List<PlacementAggregate> aggregates) {
+        return fold(aggregates, PlacementAggregate::getBatchYear, Comparator.<Integer>reverseOrder()).entrySet().stream()
+                .map(e -> YearStatisticsDTO.builder()
+                        .year(e.getKey())
+                        .totalStudents(e.getValue().total)
+                        .studentsPlaced(e.getValue().placed)
+                        .placementPercentage(e.getValue().percentage())
+                        .averagePackage(e.getValue().averagePackage())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private <K> SortedMap<K, Group> fold(List<PlacementAggregate> aggregates,
+                                         Function<PlacementAggregate, K> key, Comparator<K> order) {
+        SortedMap<K, Group> groups = new TreeMap<>(order);
+        for (PlacementAggregate aggregate : aggregates) {
+            if (aggregate.getTotalStudents() <= 0) {
+                continue;
+            }
+            Group group = groups.computeIfAbsent(key.apply(aggregate), k -> new Group());
+            group.total += aggregate.getTotalStudents();
+            group.placed += aggregate.getPlacedStudents();
+            group.packageCount += aggregate.getPackageCount();
+            group.packageSum = group.packageSum.add(aggregate.getPackageSum());
+        }
+        return groups;
+    }
+
+    private static final class PlacementDelta {
+        long placed;
+        long packageCount;
+        BigDecimal packageSum = BigDecimal.ZERO;
+        BigDecimal packageMax;
+        boolean recomputeMax;
+    }
+
+    private static final class Group {
+        long total;
+        long placed;
+        long packageCount;
+        BigDecimal packageSum = BigDecimal.ZERO;
+
+        BigDecimal percentage() {
+            if (total == 0) {
+                return BigDecimal.ZERO;
+            }
+            return BigDecimal.valueOf(placed)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal averagePackage() {
+            if (packageCount == 0) {
+                return null;
+            }
+            return packageSum.divide(BigDecimal.valueOf(packageCount), 2, RoundingMode.HALF_UP);
+        }
+    }
+}
@@ -0,0 +1,372 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.PlacementCubeRowDTO;
+import com.college.placement.model.Student;
+import com.college.placement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+
+/**
+ * Placement outcomes pre-aggregated over department x batch x company x
+ * package band, so any roll-up or drill-down is folded from the base cells
+ * in memory instead of needing its own @Query.
+ *
+ * Each student counts once, under the company and package currently on
+ * their row (updatePlacement writes them together with the placements row);
+ * students who are not placed sit in cells with no company and no band.
+ *
+ * Built with one grouped query on first use, then maintained by
+ * PlacementAggregateService after each student or placement change commits.
+ * A rebuild of the aggregates discards the cube so it is rebuilt too.
+ * A LoadGuard keeps a load that raced with a change from being kept, since
+ * the change's delta would then be counted twice.
+ */
+@Component
+public class PlacementCube {
+
+    public enum Dimension {
+        DEPARTMENT, BATCH, COMPANY, PACKAGE_BAND;
+
+        public static Dimension parse(String value) {
+            String normalized = value.trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "");
+            switch (normalized) {
+                case "department":
+                case "dept":
+                    return DEPARTMENT;
+                case "batch":
+                case "batchyear":
+                case "year":
+                    return BATCH;
+                case "company":
+                    return COMPANY;
+                case "packageband":
+                case "band":
+                case "package":
+                    return PACKAGE_BAND;
+                default:
+                    throw new IllegalArgumentException("Unknown cube dimension: " + value);
+            }
+        }
+    }
+
+    // Package bands in LPA, lower bound inclusive
+    public enum PackageBand {
+        UNDER_3("0-3", 0),
+        FROM_3_TO_5("3-5", 3),
+        FROM_5_TO_8("5-8", 5),
+        FROM_8_TO_12("8-12", 8),
+        FROM_12_TO_20("12-20", 12),
+        ABOVE_20("20+", 20);
+
+        private final String label;
+        private final BigDecimal lowerBound;
+
+        PackageBand(String label, int lowerBound) {
+            this.label = label;
+            this.lowerBound = BigDecimal.valueOf(lowerBound);
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static PackageBand of(BigDecimal packageLpa) {
+            if (packageLpa == null) {
+                return null;
+            }
+            PackageBand[] bands = values();
+            for (int i = bands.length - 1; i > 0; i--) {
+                if (packageLpa.compareTo(bands[i].lowerBound) >= 0) {
+                    return bands[i];
+                }
+            }
+            return UNDER_3;
+        }
+
+        public static PackageBand parse(String value) {
+            for (PackageBand band : values()) {
+                if (band.label.equals(value.trim()) || band.name().equalsIgnoreCase(value.trim())) {
+                    return band;
+                }
+            }
+            throw new IllegalArgumentException("Unknown package band: " + value);
+        }
+    }
+
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparing((Key k) -> k.department, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(k -> k.batchYear, Comparator.nullsLast(Comparator.<Integer>reverseOrder()))
+            .thenComparing(k -> k.company, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(k -> k.band, Comparator.nullsLast(Comparator.<PackageBand>naturalOrder()));
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private final LoadGuard loadGuard = new LoadGuard();
+
+    // null until loaded
+    private Map<Key, Cell> cells;
+
+    // ============================================
+    // QUERIES
+    // ============================================
+
+    /**
+     * Roll the base cells up to the given dimensions, keeping only cells that
+     * match every filter. No dimensions gives the grand total; all four give
+     * the base cells themselves.
+     */
+    public List<PlacementCubeRowDTO> query(Collection<Dimension> groupBy, Filter filter) {
+        while (true) {
+            Map<Key, Cell> unpublished = ensureLoaded();
+            if (unpublished != null) {
+                return rollUp(unpublished, groupBy, filter); // private to this request
+            }
+            synchronized (this) {
+                if (cells != null) {
+                    return rollUp(cells, groupBy, filter);
+                }
+            }
+        }
+    }
+
+    private static List<PlacementCubeRowDTO> rollUp(Map<Key, Cell> cells, Collection<Dimension> groupBy,
+                                                    Filter filter) {
+        Map<Key, Cell> rolled = new HashMap<>();
+        for (Map.Entry<Key, Cell> entry : cells.entrySet()) {
+            Key key = entry.getKey();
+            if (!filter.matches(key)) {
+                continue;
+            }
+            Key target = new Key(
+                    groupBy.contains(Dimension.DEPARTMENT) ? key.department : null,
+                    groupBy.contains(Dimension.BATCH) ? key.batchYear : null,
+                    groupBy.contains(Dimension.COMPANY) ? key.company : null,
+                    groupBy.contains(Dimension.PACKAGE_BAND) ? key.band : null);
+            rolled.computeIfAbsent(target, k -> new Cell()).addAll(entry.getValue());
+        }
+
+        List<Map.Entry<Key, Cell>> sorted = new ArrayList<>(rolled.entrySet());
+        sorted.sort(Map.Entry.comparingByKey(KEY_ORDER));
+        List<PlacementCubeRowDTO> rows = new ArrayList<>(sorted.size());
+        for (Map.Entry<Key, Cell> entry : sorted) {
+            Key key = entry.getKey();
+            Cell cell = entry.getValue();
+            if (cell.students <= 0) {
+                continue;
+            }
+            rows.add(PlacementCubeRowDTO.builder()
+                    .department(key.department)
+                    .batchYear(key.batchYear)
+                    .company(key.company)
+                    .packageBand(key.band != null ? key.band.getLabel() : null)
+                    .totalStudents(cell.students)
+                    .studentsPlaced(cell.placed)
+                    .placementPercentage(cell.percentage())
+                    .averagePackage(cell.averagePackage())
+                    .build());
+        }
+        return rows;
+    }
+
+    // ============================================
+    // MAINTENANCE
+    // ============================================
+
+    /**
+     * A student left one base cell (previous) and entered another (current);
+     * either side may be null for a student being added or removed
+     */
+    public synchronized void studentChanged(Fact previous, Fact current) {
+        if (cells == null) {
+            return; // picked up by the next load
+        }
+        if (previous != null) {
+            apply(cells, previous, -1);
+        }
+        if (current != null) {
+            apply(cells, current, 1);
+        }
+    }
+
+    /**
+     * Call inside the transaction that changes a student, before
+     * studentChanged is registered to run after commit
+     */
+    public void changeStarted() {
+        loadGuard.changeStarted();
+    }
+
+    public synchronized void invalidate() {
+        loadGuard.invalidate();
+        cells = null;
+    }
+
+    /**
+     * Load the cells if needed, outside the lock. Returns null once they are
+     * published, or the loaded cells when the load raced with a change and
+     * could not be kept.
+     */
+    private Map<Key, Cell> ensureLoaded() {
+        synchronized (this) {
+            if (cells != null) {
+                return null;
+            }
+        }
+        long token = loadGuard.beginLoad();
+        Map<Key, Cell> loaded = new HashMap<>();
+        for (Object[] row : studentRepository.countByPlacementOutcome()) {
+            Fact fact = new Fact((String) row[0], (Integer) row[1],
+                    row[2] == Student.PlacementStatus.PLACED, (String) row[3], (BigDecimal) row[4]);
+            apply(loaded, fact, ((Number) row[5]).longValue());
+        }
+        synchronized (this) {
+            if (cells == null && loadGuard.canPublish(token)) {
+                cells = loaded;
+                return null;
+            }
+        }
+        return loaded;
+    }
+
+    private static void apply(Map<Key, Cell> cells, Fact fact, long weight) {
+        Cell cell = cells.computeIfAbsent(fact.key(), k -> new Cell());
+        cell.students += weight;
+        if (fact.placed) {
+            cell.placed += weight;
+            if (fact.packageLpa != null) {
+                cell.packageCount += weight;
+                cell.packageSum = cell.packageSum.add(fact.packageLpa.multiply(BigDecimal.valueOf(weight)));
+            }
+        }
+        if (cell.students <= 0) {
+            cells.remove(fact.key());
+        }
+    }
+
+    // ============================================
+    // TYPES
+    // ============================================
+
+    /**
+     * The cube-relevant state of one student, captured when the change is
+     * made so it can be applied after commit
+     */
+    public static final class Fact {
+        private final String department;
+        private final Integer batchYear;
+        private final boolean placed;
+        private final String company;
+        private final BigDecimal packageLpa;
+
+        public Fact(String department, Integer batchYear, boolean placed, String company, BigDecimal packageLpa) {
+            this.department = department;
+            this.batchYear = batchYear;
+            this.placed = placed;
+            this.company = placed && company != null && !company.isBlank() ? company.trim() : null;
+            this.packageLpa = placed ? packageLpa : null;
+        }
+
+        public static Fact of(Student student) {
+            return new Fact(student.getDepartment(), student.getBatchYear(),
+                    student.getPlacementStatus() == Student.PlacementStatus.PLACED,
+                    student.getCompanyPlaced(), student.getPackageLpa());
+        }
+
+        Key key() {
+            return new Key(department, batchYear, company, PackageBand.of(packageLpa));
+        }
+    }
+
+    /**
+     * Dimension values a cell must have; null means any
+     */
+    public static final class Filter {
+        private final String department;
+        private final Integer batchYear;
+        private final String company;
+        private final PackageBand band;
+
+        public Filter(String department, Integer batchYear, String company, PackageBand band) {
+            this.department = department;
+            this.batchYear = batchYear;
+            this.company = company;
+            this.band = band;
+        }
+
+        boolean matches(Key key) {
+            return (department == null || department.equalsIgnoreCase(key.department))
+                    && (batchYear == null || batchYear.equals(key.batchYear))
+                    && (company == null || company.equalsIgnoreCase(key.company))
+                    && (band == null || band == key.band);
+        }
+    }
+
+    private static final class Key {
+        final String department;
+        final Integer batchYear;
+        final String company;
+        final PackageBand band;
+
+        Key(String department, Integer batchYear, String company, PackageBand band) {
+            this.department = department;
+            this.batchYear = batchYear;
+            this.company = company;
+            this.band = band;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return Objects.equals(department, other.department)
+                    && Objects.equals(batchYear, other.batchYear)
+                    && Objects.equals(company, other.company)
+                    && band == other.band;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(department, batchYear, company, band);
+        }
+    }
+
+    private static final class Cell {
+        long students;
+        long placed;
+        long packageCount;
+        BigDecimal packageSum = BigDecimal.ZERO;
+
+        void addAll(Cell other) {
+            students += other.students;
+            placed += other.placed;
+            packageCount += other.packageCount;
+            packageSum = packageSum.add(other.packageSum);
+        }
+
+        BigDecimal percentage() {
+            if (students == 0) {
+                return BigDecimal.ZERO;
+            }
+            return BigDecimal.valueOf(placed)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(BigDecimal.valueOf(students), 2, RoundingMode.HALF_UP);
+        }
+
+        BigDecimal averagePackage() {
+            if (packageCount == 0) {
+                return null;
+            }
+            return packageSum.divide(BigDecimal.valueOf(packageCount), 2, RoundingMode.HALF_UP);
+        }
+    }
+}
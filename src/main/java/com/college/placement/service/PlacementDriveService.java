@@ -4,12 +4,15 @@ package com.college.placement.service;
 import com.college.placement.dto.*;
 import com.college.placement.model.*;
 import com.college.placement.repository.*;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -17,6 +20,10 @@ import java.util.stream.Collectors;
 @Service
 public class PlacementDriveService {
     
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_SEARCH_LIMIT = 20;
+    
     @Autowired
     private PlacementDriveRepository driveRepository;
     
@@ -33,7 +40,16 @@ public class PlacementDriveService {
     private NotificationService notificationService;
     
     @Autowired
-    private ObjectMapper objectMapper;
+    private EligibilityCriteriaCache criteriaCache;
+    
+    @Autowired
+    private StudentEligibilityIndex eligibilityIndex;
+    
+    @Autowired
+    private DriveResponseCache responseCache;
+    
+    @Autowired
+    private DataVersions dataVersions;
     
     /**
      * Create new placement drive
@@ -51,8 +67,8 @@ public class PlacementDriveService {
                     .packageOffered(request.getPackageOffered())
                     .minCgpa(request.getMinCgpa())
                     .maxBacklogs(request.getMaxBacklogs())
-                    .eligibleDepartments(objectMapper.writeValueAsString(request.getEligibleDepartments()))
-                    .eligibleBatches(objectMapper.writeValueAsString(request.getEligibleBatches()))
+                    .eligibleDepartments(request.getEligibleDepartments().toArray(new String[0]))
+                    .eligibleBatches(request.getEligibleBatches().toArray(new Integer[0]))
                     .driveDate(request.getDriveDate())
                     .applicationDeadline(request.getApplicationDeadline())
                     .venue(request.getVenue())
@@ -62,11 +78,13 @@ public class PlacementDriveService {
                     .build();
             
             drive = driveRepository.save(drive);
+            responseCache.evictLists();
+            dataVersions.bump(DataVersions.Domain.DRIVES);
             
             // Send notifications to eligible students (asynchronous)
             notificationService.notifyNewDrive(drive);
             
-            return mapToResponse(drive, null);
+            return mapToResponse(drive);
             
         } catch (Exception e) {
             throw new RuntimeException("Failed to create drive: " + e.getMessage());
@@ -88,15 +106,18 @@ public class PlacementDriveService {
             drive.setPackageOffered(request.getPackageOffered());
             drive.setMinCgpa(request.getMinCgpa());
             drive.setMaxBacklogs(request.getMaxBacklogs());
-            drive.setEligibleDepartments(objectMapper.writeValueAsString(request.getEligibleDepartments()));
-            drive.setEligibleBatches(objectMapper.writeValueAsString(request.getEligibleBatches()));
+            drive.setEligibleDepartments(request.getEligibleDepartments().toArray(new String[0]));
+            drive.setEligibleBatches(request.getEligibleBatches().toArray(new Integer[0]));
             drive.setDriveDate(request.getDriveDate());
             drive.setApplicationDeadline(request.getApplicationDeadline());
             drive.setVenue(request.getVenue());
             drive.setTotalPositions(request.getTotalPositions());
             
             drive = driveRepository.save(drive);
-            return mapToResponse(drive, null);
+            criteriaCache.evict(driveId);
+            responseCache.evictDrive(driveId);
+            dataVersions.bump(DataVersions.Domain.DRIVES);
+            return mapToResponse(drive);
             
         } catch (Exception e) {
             throw new RuntimeException("Failed to update drive: " + e.getMessage());
@@ -107,6 +128,10 @@ public class PlacementDriveService {
      * Get all drives with filters
      */
     public List<PlacementDriveResponse> getAllDrives(String status, String company) {
+        return new ArrayList<>(responseCache.getList(status, company, () -> loadDrives(status, company)));
+    }
+    
+    private List<PlacementDriveResponse> loadDrives(String status, String company) {
         List<PlacementDrive> drives;
         
         if (status != null && company != null) {
@@ -121,7 +146,82 @@ public class PlacementDriveService {
         }
         
         return drives.stream()
-                .map(drive -> mapToResponse(drive, null))
+                .map(drive -> mapToResponse(drive))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Get one page of drives (keyset pagination on createdAt, driveId)
+     */
+    public DrivePageResponse getDrivePage(String status, String cursor, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PlacementDrive.DriveStatus driveStatus = status != null
+                ? PlacementDrive.DriveStatus.valueOf(status.toUpperCase())
+                : null;
+        
+        // Fetch one extra row to know whether another page follows
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Object[]> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = driveRepository.findDriveRows(driveStatus, limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = driveRepository.findDriveRowsAfter(driveStatus,
+                    LocalDateTime.parse(position[0]), Integer.valueOf(position[1]), limit);
+        }
+        
+        boolean hasMore = rows.size() > pageSize;
+        List<PlacementDriveResponse> drives = rows.stream()
+                .limit(pageSize)
+                .map(this::mapRowToResponse)
+                .collect(Collectors.toList());
+        
+        String nextCursor = null;
+        if (hasMore) {
+            PlacementDriveResponse last = drives.get(drives.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getDriveId());
+        }
+        
+        return DrivePageResponse.builder()
+                .drives(drives)
+                .size(drives.size())
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    /**
+     * Full-text search over company name, job role and description, best match first.
+     * Every word is matched as a prefix, so "soft eng" finds "Software Engineer".
+     */
+    public List<PlacementDriveResponse> searchDrives(String query, List<String> statuses, Integer limit) {
+        String tsQuery = Arrays.stream(query == null ? new String[0] : query.split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term.toLowerCase() + ":*")
+                .collect(Collectors.joining(" & "));
+        if (tsQuery.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        List<String> statusFilter = statuses == null || statuses.isEmpty()
+                ? Arrays.stream(PlacementDrive.DriveStatus.values()).map(Enum::name).collect(Collectors.toList())
+                : statuses.stream()
+                        .map(status -> PlacementDrive.DriveStatus.valueOf(status.toUpperCase()).name())
+                        .collect(Collectors.toList());
+        int maxResults = limit == null ? DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        
+        List<Integer> rankedIds = driveRepository.searchDriveIds(tsQuery, statusFilter, maxResults);
+        if (rankedIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<Integer, PlacementDriveResponse> byId = driveRepository.findDriveRowsByIds(rankedIds).stream()
+                .map(this::mapRowToResponse)
+                .collect(Collectors.toMap(PlacementDriveResponse::getDriveId, drive -> drive));
+        
+        return rankedIds.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
     
@@ -129,9 +229,11 @@ public class PlacementDriveService {
      * Get drive by ID
      */
     public PlacementDriveResponse getDriveById(Integer driveId) {
-        PlacementDrive drive = driveRepository.findById(driveId)
-                .orElseThrow(() -> new RuntimeException("Drive not found"));
-        return mapToResponse(drive, null);
+        return responseCache.getDrive(driveId, () -> {
+            PlacementDrive drive = driveRepository.findById(driveId)
+                    .orElseThrow(() -> new RuntimeException("Drive not found"));
+            return mapToResponse(drive);
+        });
     }
     
     /**
@@ -147,20 +249,25 @@ public class PlacementDriveService {
         
         Student student = user.getStudent();
         
-        // Get all active drives
-        List<PlacementDrive> activeDrives = driveRepository.findByStatus(PlacementDrive.DriveStatus.UPCOMING);
-        activeDrives.addAll(driveRepository.findByStatus(PlacementDrive.DriveStatus.ONGOING));
-        
-        // Filter eligible drives
-        return activeDrives.stream()
-                .filter(drive -> isStudentEligible(student, drive))
-                .filter(drive -> !drive.isDeadlinePassed())
-                .map(drive -> {
-                    // Check if already applied
-                    Optional<Application> existingApp = applicationRepository
-                            .findByDriveAndStudent(drive, student);
-                    return mapToResponse(drive, existingApp.orElse(null));
-                })
+        // Open drives the student is eligible for, filtered in the database (one query)
+        List<PlacementDrive> eligibleDrives = driveRepository.findOpenDrivesEligibleFor(
+                student.getDepartment(),
+                student.getBatchYear(),
+                student.getCgpa() != null ? student.getCgpa() : BigDecimal.ZERO,
+                student.getBacklogs() != null ? student.getBacklogs() : 0);
+        
+        if (eligibleDrives.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        // Student's existing applications keyed by driveId (one query)
+        Map<Integer, Application.ApplicationStatus> appliedStatus = new HashMap<>();
+        for (Object[] row : applicationRepository.findDriveStatusesByStudent(student)) {
+            appliedStatus.put((Integer) row[0], (Application.ApplicationStatus) row[1]);
+        }
+        
+        return eligibleDrives.stream()
+                .map(drive -> mapToResponse(drive, appliedStatus.get(drive.getDriveId())))
                 .collect(Collectors.toList());
     }
     
@@ -182,6 +289,69 @@ public class PlacementDriveService {
         return performEligibilityCheck(student, drive);
     }
     
+    /**
+     * Check eligibility for several drives at once (unknown drive ids are skipped)
+     */
+    public List<EligibilityCheckResponse> checkEligibility(List<Integer> driveIds, String username) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        
+        Student student = user.getStudent();
+        if (student == null) {
+            throw new RuntimeException("Student record not found");
+        }
+        
+        Map<Integer, PlacementDrive> drives = driveRepository.findAllById(driveIds).stream()
+                .collect(Collectors.toMap(PlacementDrive::getDriveId, drive -> drive));
+        
+        return driveIds.stream()
+                .distinct()
+                .map(drives::get)
+                .filter(Objects::nonNull)
+                .map(drive -> performEligibilityCheck(student, drive))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Get ids of all students eligible for drive
+     */
+    public List<String> getEligibleStudentIds(Integer driveId) {
+        PlacementDrive drive = driveRepository.findById(driveId)
+                .orElseThrow(() -> new RuntimeException("Drive not found"));
+        
+        return eligibilityIndex.findEligibleStudentIds(criteriaCache.get(drive));
+    }
+    
+    /**
+     * How many students draft criteria would admit, broken down by department
+     * and batch. Answered from the eligibility index, so it is cheap enough to
+     * call on every change of the drive form.
+     */
+    public EligibilityPreviewResponse previewEligibility(EligibilityPreviewRequest request) {
+        EligibilityCriteria criteria = EligibilityCriteria.draft(request.getMinCgpa(),
+                request.getMaxBacklogs(), request.getEligibleDepartments(), request.getEligibleBatches());
+        
+        Map<String, Map<Integer, Integer>> groups = eligibilityIndex.countEligibleByGroup(criteria);
+        Map<String, Integer> byDepartment = new TreeMap<>();
+        Map<Integer, Integer> byBatch = new TreeMap<>(Comparator.reverseOrder());
+        int eligible = 0;
+        for (Map.Entry<String, Map<Integer, Integer>> dept : groups.entrySet()) {
+            for (Map.Entry<Integer, Integer> batch : dept.getValue().entrySet()) {
+                byDepartment.merge(dept.getKey(), batch.getValue(), Integer::sum);
+                byBatch.merge(batch.getKey(), batch.getValue(), Integer::sum);
+                eligible += batch.getValue();
+            }
+        }
+        
+        return EligibilityPreviewResponse.builder()
+                .eligibleCount(eligible)
+                .totalStudents(eligibilityIndex.size())
+                .byDepartment(byDepartment)
+                .byBatch(byBatch)
+                .byDepartmentAndBatch(groups)
+                .build();
+    }
+    
     /**
      * Cancel drive
      */
@@ -192,11 +362,55 @@ public class PlacementDriveService {
         
         drive.setStatus(PlacementDrive.DriveStatus.CANCELLED);
         driveRepository.save(drive);
+        criteriaCache.evict(driveId);
+        responseCache.evictDrive(driveId);
+        dataVersions.bump(DataVersions.Domain.DRIVES);
         
         // Notify all applicants
         notificationService.notifyDriveCancelled(drive);
     }
     
+    /**
+     * Record a new application against the drive's counter
+     */
+    @Transactional
+    public void recordApplicationCreated(Integer driveId) {
+        driveRepository.incrementApplicationCount(driveId);
+        responseCache.evictDrive(driveId);
+        dataVersions.bump(DataVersions.Domain.DRIVES);
+    }
+    
+    /**
+     * Record a withdrawn application against the drive's counter
+     */
+    @Transactional
+    public void recordApplicationWithdrawn(Integer driveId) {
+        driveRepository.decrementApplicationCount(driveId);
+        responseCache.evictDrive(driveId);
+        dataVersions.bump(DataVersions.Domain.DRIVES);
+    }
+    
+    /**
+     * Re-derive application counters from the applications table (nightly)
+     */
+    @Transactional
+    @Scheduled(cron = "${app.drives.application-count-repair-cron:0 30 3 * * *}")
+    public int repairApplicationCounts() {
+        int repaired = driveRepository.recountApplicationCounts();
+        if (repaired > 0) {
+            responseCache.clear();
+            dataVersions.bump(DataVersions.Domain.DRIVES);
+        }
+        return repaired;
+    }
+    
+    /**
+     * Hit/miss metrics of the drive response cache
+     */
+    public List<CacheStatsResponse> getResponseCacheStats() {
+        return responseCache.getStats();
+    }
+    
     /**
      * Get drive statistics
      */
@@ -204,94 +418,112 @@ public class PlacementDriveService {
         PlacementDrive drive = driveRepository.findById(driveId)
                 .orElseThrow(() -> new RuntimeException("Drive not found"));
         
-        List<Application> applications = applicationRepository.findByDrive(drive);
+        // Two grouped queries instead of loading every application and its student
+        Map<Application.ApplicationStatus, Integer> byStatus = new EnumMap<>(Application.ApplicationStatus.class);
+        for (Object[] row : applicationRepository.countByStatusForDrive(driveId)) {
+            byStatus.put((Application.ApplicationStatus) row[0], ((Number) row[1]).intValue());
+        }
         
         Map<String, Integer> deptWise = new HashMap<>();
-        for (Application app : applications) {
-            String dept = app.getStudent().getDepartment();
-            deptWise.put(dept, deptWise.getOrDefault(dept, 0) + 1);
+        for (Object[] row : applicationRepository.countByDepartmentForDrive(driveId)) {
+            deptWise.put((String) row[0], ((Number) row[1]).intValue());
+        }
+        
+        return toDriveStatistics(drive.getDriveId(), drive.getCompanyName(), byStatus, deptWise);
+    }
+    
+    /**
+     * Application funnel of every drive from a single grouped query, without
+     * the department breakdown (used by the admin dashboard)
+     */
+    public List<DriveStatisticsResponse> getAllDriveStatistics() {
+        Map<Integer, String> companies = new LinkedHashMap<>();
+        Map<Integer, Map<Application.ApplicationStatus, Integer>> funnels = new HashMap<>();
+        for (Object[] row : applicationRepository.countByStatusForAllDrives()) {
+            Integer driveId = (Integer) row[0];
+            companies.put(driveId, (String) row[1]);
+            Map<Application.ApplicationStatus, Integer> byStatus = funnels.computeIfAbsent(driveId,
+                    k -> new EnumMap<>(Application.ApplicationStatus.class));
+            if (row[2] != null) {
+                byStatus.put((Application.ApplicationStatus) row[2], ((Number) row[3]).intValue());
+            }
+        }
+        
+        List<DriveStatisticsResponse> result = new ArrayList<>(companies.size());
+        for (Map.Entry<Integer, String> drive : companies.entrySet()) {
+            result.add(toDriveStatistics(drive.getKey(), drive.getValue(), funnels.get(drive.getKey()), null));
+        }
+        return result;
+    }
+    
+    private DriveStatisticsResponse toDriveStatistics(Integer driveId, String companyName,
+                                                      Map<Application.ApplicationStatus, Integer> byStatus,
+                                                      Map<String, Integer> deptWise) {
+        // Active applications, the same count as the drive's application_count
+        int total = 0;
+        for (Map.Entry<Application.ApplicationStatus, Integer> entry : byStatus.entrySet()) {
+            if (entry.getKey() != Application.ApplicationStatus.WITHDRAWN) {
+                total += entry.getValue();
+            }
         }
         
         return DriveStatisticsResponse.builder()
-                .driveId(drive.getDriveId())
-                .companyName(drive.getCompanyName())
-                .totalApplications(applications.size())
-                .shortlistedCount((int) applications.stream().filter(a -> a.getStatus() == Application.ApplicationStatus.SHORTLISTED).count())
-                .interviewedCount((int) applications.stream().filter(a -> a.getStatus() == Application.ApplicationStatus.INTERVIEWED).count())
-                .offeredCount((int) applications.stream().filter(a -> a.getStatus() == Application.ApplicationStatus.OFFERED).count())
-                .acceptedCount((int) applications.stream().filter(a -> a.getStatus() == Application.ApplicationStatus.ACCEPTED).count())
-                .rejectedCount((int) applications.stream().filter(a -> a.getStatus() == Application.ApplicationStatus.REJECTED).count())
-                .withdrawnCount((int) applications.stream().filter(a -> a.getStatus() == Application.ApplicationStatus.WITHDRAWN).count())
+                .driveId(driveId)
+                .companyName(companyName)
+                .totalApplications(total)
+                .shortlistedCount(byStatus.getOrDefault(Application.ApplicationStatus.SHORTLISTED, 0))
+                .interviewedCount(byStatus.getOrDefault(Application.ApplicationStatus.INTERVIEWED, 0))
+                .offeredCount(byStatus.getOrDefault(Application.ApplicationStatus.OFFERED, 0))
+                .acceptedCount(byStatus.getOrDefault(Application.ApplicationStatus.ACCEPTED, 0))
+                .rejectedCount(byStatus.getOrDefault(Application.ApplicationStatus.REJECTED, 0))
+                .withdrawnCount(byStatus.getOrDefault(Application.ApplicationStatus.WITHDRAWN, 0))
                 .departmentWiseApplications(deptWise)
                 .build();
     }
     
     // ============================================
     // ELIGIBILITY ENGINE - CORE LOGIC
+    // (package-private for the JMH benchmarks in src/jmh)
     // ============================================
     
-    private boolean isStudentEligible(Student student, PlacementDrive drive) {
+    boolean isStudentEligible(Student student, PlacementDrive drive) {
         try {
-            List<String> depts = objectMapper.readValue(drive.getEligibleDepartments(), List.class);
-            List<Integer> batches = objectMapper.readValue(drive.getEligibleBatches(), List.class);
-            
-            // CGPA check
-            if (student.getCgpa().compareTo(drive.getMinCgpa()) < 0) {
-                return false;
-            }
-            
-            // Backlogs check
-            if (student.getBacklogs() > drive.getMaxBacklogs()) {
-                return false;
-            }
-            
-            // Department check
-            if (!depts.contains(student.getDepartment())) {
-                return false;
-            }
-            
-            // Batch check
-            if (!batches.contains(student.getBatchYear())) {
-                return false;
-            }
-            
-            return true;
+            return criteriaCache.get(drive).matches(student);
         } catch (Exception e) {
             return false;
         }
     }
     
-    private EligibilityCheckResponse performEligibilityCheck(Student student, PlacementDrive drive) {
+    EligibilityCheckResponse performEligibilityCheck(Student student, PlacementDrive drive) {
         List<String> failedCriteria = new ArrayList<>();
         boolean isEligible = true;
         
         try {
-            List<String> depts = objectMapper.readValue(drive.getEligibleDepartments(), List.class);
-            List<Integer> batches = objectMapper.readValue(drive.getEligibleBatches(), List.class);
+            EligibilityCriteria criteria = criteriaCache.get(drive);
             
             // CGPA check
-            if (student.getCgpa().compareTo(drive.getMinCgpa()) < 0) {
+            if (!criteria.meetsCgpa(EligibilityCriteria.scaleCgpa(student.getCgpa()))) {
                 isEligible = false;
                 failedCriteria.add(String.format("CGPA requirement not met. Required: %.2f, Your CGPA: %.2f", 
                         drive.getMinCgpa(), student.getCgpa()));
             }
             
             // Backlogs check
-            if (student.getBacklogs() > drive.getMaxBacklogs()) {
+            if (!criteria.meetsBacklogs(student.getBacklogs() != null ? student.getBacklogs() : 0)) {
                 isEligible = false;
                 failedCriteria.add(String.format("Too many backlogs. Maximum allowed: %d, You have: %d", 
                         drive.getMaxBacklogs(), student.getBacklogs()));
             }
             
             // Department check
-            if (!depts.contains(student.getDepartment())) {
+            if (!criteria.acceptsDepartment(student.getDepartment())) {
                 isEligible = false;
                 failedCriteria.add(String.format("Your department (%s) is not eligible for this drive", 
                         student.getDepartment()));
             }
             
             // Batch check
-            if (!batches.contains(student.getBatchYear())) {
+            if (student.getBatchYear() == null || !criteria.acceptsBatch(student.getBatchYear())) {
                 isEligible = false;
                 failedCriteria.add(String.format("Your batch (%d) is not eligible for this drive", 
                         student.getBatchYear()));
@@ -302,6 +534,7 @@ public class PlacementDriveService {
                     "You are not eligible for this drive based on the following criteria:";
             
             return EligibilityCheckResponse.builder()
+                    .driveId(drive.getDriveId())
                     .isEligible(isEligible)
                     .message(message)
                     .failedCriteria(failedCriteria)
@@ -311,8 +544,8 @@ public class PlacementDriveService {
                     .studentBatch(student.getBatchYear())
                     .requiredCgpa(drive.getMinCgpa())
                     .maxAllowedBacklogs(drive.getMaxBacklogs())
-                    .eligibleDepartments(depts)
-                    .eligibleBatches(batches)
+                    .eligibleDepartments(criteria.getDepartmentList())
+                    .eligibleBatches(criteria.getBatchList())
                     .build();
                     
         } catch (Exception e) {
@@ -320,10 +553,14 @@ public class PlacementDriveService {
         }
     }
     
-    private PlacementDriveResponse mapToResponse(PlacementDrive drive, Application application) {
+    PlacementDriveResponse mapToResponse(PlacementDrive drive) {
+        return mapToResponse(drive, null);
+    }
+    
+    PlacementDriveResponse mapToResponse(PlacementDrive drive,
+                                                 Application.ApplicationStatus applicationStatus) {
         try {
-            List<String> depts = objectMapper.readValue(drive.getEligibleDepartments(), List.class);
-            List<Integer> batches = objectMapper.readValue(drive.getEligibleBatches(), List.class);
+            EligibilityCriteria criteria = criteriaCache.get(drive);
             
             return PlacementDriveResponse.builder()
                     .driveId(drive.getDriveId())
@@ -333,20 +570,67 @@ public class PlacementDriveService {
                     .packageOffered(drive.getPackageOffered())
                     .minCgpa(drive.getMinCgpa())
                     .maxBacklogs(drive.getMaxBacklogs())
-                    .eligibleDepartments(depts)
-                    .eligibleBatches(batches)
+                    .eligibleDepartments(criteria.getDepartmentList())
+                    .eligibleBatches(criteria.getBatchList())
                     .driveDate(drive.getDriveDate())
                     .applicationDeadline(drive.getApplicationDeadline())
                     .venue(drive.getVenue())
                     .status(drive.getStatus().name())
                     .totalPositions(drive.getTotalPositions())
-                    .totalApplications(drive.getApplications().size())
-                    .hasApplied(application != null)
-                    .applicationStatus(application != null ? application.getStatus().name() : null)
+                    .totalApplications(drive.getApplicationCount())
+                    .hasApplied(applicationStatus != null)
+                    .applicationStatus(applicationStatus != null ? applicationStatus.name() : null)
                     .createdAt(drive.getCreatedAt())
                     .build();
         } catch (Exception e) {
             throw new RuntimeException("Error mapping drive to response: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Map a DRIVE_ROW_SELECT projection row without loading the entity
+     */
+    private PlacementDriveResponse mapRowToResponse(Object[] row) {
+        String[] depts = (String[]) row[7];
+        Integer[] batches = (Integer[]) row[8];
+        
+        return PlacementDriveResponse.builder()
+                .driveId((Integer) row[0])
+                .companyName((String) row[1])
+                .jobRole((String) row[2])
+                .jobDescription((String) row[3])
+                .packageOffered((BigDecimal) row[4])
+                .minCgpa((BigDecimal) row[5])
+                .maxBacklogs((Integer) row[6])
+                .eligibleDepartments(depts != null ? Arrays.asList(depts) : new ArrayList<>())
+                .eligibleBatches(batches != null ? Arrays.asList(batches) : new ArrayList<>())
+                .driveDate((LocalDate) row[9])
+                .applicationDeadline((LocalDateTime) row[10])
+                .venue((String) row[11])
+                .status(((PlacementDrive.DriveStatus) row[12]).name())
+                .totalPositions((Integer) row[13])
+                .totalApplications((Integer) row[14])
+                .hasApplied(false)
+                .createdAt((LocalDateTime) row[15])
+                .build();
+    }
+    
+    private String encodeCursor(LocalDateTime createdAt, Integer driveId) {
+        String position = createdAt + "," + driveId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private String[] decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split(",");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            return parts;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
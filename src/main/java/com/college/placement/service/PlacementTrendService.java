@@ -0,0 +1,157 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.PlacementTrendResponse;
+import com.college.placement.dto.WeeklyPlacementDTO;
+import com.college.placement.model.Student;
+import com.college.placement.repository.PlacementDailyRollupRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Placement progress over the season, from placement_daily_rollups.
+ *
+ * updatePlacement adds each placement to its (day, department) row in the
+ * same transaction, so a trend of N weeks reads at most 7 * N rows per
+ * department instead of the placements table. backfill() rebuilds the
+ * rollups from existing placements.
+ */
+@Service
+public class PlacementTrendService {
+
+    private static final int DEFAULT_WEEKS = 12;
+    private static final int MAX_WEEKS = 104;
+
+    @Autowired
+    private PlacementDailyRollupRepository rollupRepository;
+
+    /**
+     * Call inside the transaction that saved the placement
+     */
+    public void placementRecorded(LocalDate date, String department, BigDecimal packageLpa) {
+        rollupRepository.add(date, department, 1, packageLpa != null ? packageLpa : BigDecimal.ZERO);
+    }
+
+    /**
+     * Batch form of placementRecorded, with one upsert per department
+     */
+    public void placementsRecorded(LocalDate date, List<Student> students) {
+        SortedMap<String, Long> placements = new TreeMap<>();
+        SortedMap<String, BigDecimal> packageSums = new TreeMap<>();
+        for (Student student : students) {
+            placements.merge(student.getDepartment(), 1L, Long::sum);
+            packageSums.merge(student.getDepartment(),
+                    student.getPackageLpa() != null ? student.getPackageLpa() : BigDecimal.ZERO, BigDecimal::add);
+        }
+        placements.forEach((department, count) ->
+                rollupRepository.add(date, department, count, packageSums.get(department)));
+    }
+
+    /**
+     * Rebuild every daily rollup from the placements table
+     * @return number of (day, department) rows
+     */
+    @Transactional
+    public int backfill() {
+        rollupRepository.deleteAllRollups();
+        return rollupRepository.insertAllRollupsFromPlacements();
+    }
+
+    /**
+     * Backfill on first start after upgrading
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (rollupRepository.count() == 0) {
+            backfill();
+        }
+    }
+
+    /**
+     * Weekly series ending with the current week, optionally for one department
+     */
+    public PlacementTrendResponse getWeeklyTrend(Integer weeks, String department) {
+        int weekCount = weeks == null ? DEFAULT_WEEKS : Math.max(1, Math.min(weeks, MAX_WEEKS));
+        LocalDate currentWeek = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        // One extra week so the first reported week has a week-over-week change
+        LocalDate from = currentWeek.minusWeeks(weekCount);
+        boolean allDepartments = department == null || department.isBlank();
+
+        List<Object[]> days = allDepartments
+                ? rollupRepository.sumByDateSince(from)
+                : rollupRepository.sumByDateSinceForDepartment(from, department);
+        Long before = allDepartments
+                ? rollupRepository.countPlacementsBefore(from)
+                : rollupRepository.countPlacementsBeforeForDepartment(from, department);
+
+        long[] placements = new long[weekCount + 1];
+        BigDecimal[] packageSums = new BigDecimal[weekCount + 1];
+        for (int i = 0; i <= weekCount; i++) {
+            packageSums[i] = BigDecimal.ZERO;
+        }
+        for (Object[] day : days) {
+            int week = (int) ChronoUnit.WEEKS.between(from, toLocalDate(day[0]));
+            if (week < 0 || week > weekCount) {
+                continue;
+            }
+            placements[week] += ((Number) day[1]).longValue();
+            packageSums[week] = packageSums[week].add(toBigDecimal(day[2]));
+        }
+
+        List<WeeklyPlacementDTO> series = new ArrayList<>(weekCount);
+        long cumulative = (before != null ? before : 0L) + placements[0];
+        for (int week = 1; week <= weekCount; week++) {
+            long count = placements[week];
+            long previous = placements[week - 1];
+            cumulative += count;
+
+            series.add(WeeklyPlacementDTO.builder()
+                    .weekStart(from.plusWeeks(week))
+                    .placements(count)
+                    .packageSum(packageSums[week].setScale(2, RoundingMode.HALF_UP))
+                    .averagePackage(count > 0
+                            ? packageSums[week].divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP)
+                            : null)
+                    .cumulativePlacements(cumulative)
+                    .changeFromPreviousWeek(count - previous)
+                    .changePercent(previous > 0
+                            ? BigDecimal.valueOf(count - previous)
+                                    .multiply(BigDecimal.valueOf(100))
+                                    .divide(BigDecimal.valueOf(previous), 2, RoundingMode.HALF_UP)
+                            : null)
+                    .build());
+        }
+
+        return PlacementTrendResponse.builder()
+                .department(allDepartments ? null : department)
+                .weeks(weekCount)
+                .series(series)
+                .build();
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date ? ((Date) value).toLocalDate() : (LocalDate) value;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        return value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+    }
+}
@@ -7,10 +7,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.Year;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 @Service
 public class StatisticsService {
@@ -21,150 +21,293 @@ public class StatisticsService {
     @Autowired
     private CompanyRepository companyRepository;
     
+    @Autowired
+    private CompanyJdbcRepository companyJdbcRepository;
+    
+    @Autowired
+    private StudentJdbcRepository studentJdbcRepository;
+    
+    @Autowired
+    private PlacementJdbcRepository placementJdbcRepository;
+    
     @Autowired
     private ExpectedCompanyRepository expectedCompanyRepository;
     
     @Autowired
     private PlacementRepository placementRepository;
     
+    @Autowired
+    private DataVersions dataVersions;
+    
+    @Autowired
+    private OverallStatisticsSnapshot overallSnapshot;
+    
+    @Autowired
+    private PlacementAggregateService aggregateService;
+    
+    @Autowired
+    private PackageDistribution packageDistribution;
+    
+    @Autowired
+    private PlacementTrendService trendService;
+    
+    @Autowired
+    private PlacementCube placementCube;
+    
     public PlacementStatisticsDTO getOverallStatistics() {
-        Long totalStudents = studentRepository.count();
-        Long studentsPlaced = studentRepository.countPlacedStudents();
-        
-        BigDecimal placementPercentage = BigDecimal.ZERO;
-        if (totalStudents > 0) {
-            placementPercentage = BigDecimal.valueOf(studentsPlaced)
-                    .multiply(BigDecimal.valueOf(100))
-                    .divide(BigDecimal.valueOf(totalStudents), 2, RoundingMode.HALF_UP);
+        return overallSnapshot.current().getStatistics();
+    }
+    
+    /**
+     * Overall statistics together with the ETag of that exact snapshot
+     */
+    public OverallStatisticsSnapshot.Entry getOverallStatisticsEntry() {
+        return overallSnapshot.current();
+    }
+    
+    public List<DepartmentStatisticsDTO> getDepartmentStatistics() {
+        return aggregateService.getDepartmentStatistics();
+    }
+    
+    public List<YearStatisticsDTO> getYearStatistics() {
+        return aggregateService.getYearStatistics();
+    }
+    
+    public PackageDistributionResponse getPackageDistribution() {
+        return packageDistribution.getDistribution();
+    }
+    
+    public PlacementTrendResponse getPlacementTrend(Integer weeks, String department) {
+        return trendService.getWeeklyTrend(weeks, department);
+    }
+    
+    /**
+     * Roll-up or drill-down of the placement cube
+     * @param groupBy comma-separated dimensions (department, batch, company, packageBand); empty for the total
+     */
+    public PlacementCubeResponse getPlacementCube(String groupBy, String department, Integer batchYear,
+                                                  String company, String packageBand) {
+        Set<PlacementCube.Dimension> dimensions = EnumSet.noneOf(PlacementCube.Dimension.class);
+        if (groupBy != null) {
+            for (String dimension : groupBy.split(",")) {
+                if (!dimension.isBlank()) {
+                    dimensions.add(PlacementCube.Dimension.parse(dimension));
+                }
+            }
         }
+        String dept = blankToNull(department);
+        String companyName = blankToNull(company);
+        String band = blankToNull(packageBand);
+        PlacementCube.Filter filter = new PlacementCube.Filter(dept, batchYear, companyName,
+                band != null ? PlacementCube.PackageBand.parse(band) : null);
         
-        Double avgPackage = studentRepository.getAveragePackage();
-        Double highestPackage = studentRepository.getHighestPackage();
-        
-        Integer currentYear = Year.now().getValue();
-        Long companiesVisited = companyRepository.countCompaniesByYear(currentYear);
-        Long expectedCompanies = expectedCompanyRepository
-                .countExpectedCompaniesByYear(currentYear);
+        Map<String, String> filters = new LinkedHashMap<>();
+        if (dept != null) {
+            filters.put("department", dept);
+        }
+        if (batchYear != null) {
+            filters.put("batchYear", batchYear.toString());
+        }
+        if (companyName != null) {
+            filters.put("company", companyName);
+        }
+        if (band != null) {
+            filters.put("packageBand", band);
+        }
         
-        return PlacementStatisticsDTO.builder()
-                .totalStudents(totalStudents)
-                .studentsPlaced(studentsPlaced)
-                .placementPercentage(placementPercentage)
-                .averagePackage(avgPackage != null ? 
-                        BigDecimal.valueOf(avgPackage).setScale(2, RoundingMode.HALF_UP) : null)
-                .highestPackage(highestPackage != null ? 
-                        BigDecimal.valueOf(highestPackage).setScale(2, RoundingMode.HALF_UP) : null)
-                .companiesVisited(companiesVisited)
-                .expectedCompanies(expectedCompanies)
+        return PlacementCubeResponse.builder()
+                .groupBy(dimensions.stream().map(Enum::name).collect(Collectors.toList()))
+                .filters(filters)
+                .rows(placementCube.query(dimensions, filter))
                 .build();
     }
     
-    public List<DepartmentStatisticsDTO> getDepartmentStatistics() {
-    List<Object[]> results = studentRepository.getDepartmentStatistics();
-    
-    return results.stream()
-            .map(row -> {
-                String department = (String) row[0];
-                Long total = ((Number) row[1]).longValue();
-                Long placed = ((Number) row[2]).longValue();
-                
-                BigDecimal percentage = BigDecimal.ZERO;
-                if (total > 0) {
-                    percentage = BigDecimal.valueOf(placed)
-                            .multiply(BigDecimal.valueOf(100))
-                            .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
-                }
-                
-                BigDecimal avgPkg = null;
-                if (row[3] != null) {
-                    avgPkg = BigDecimal.valueOf(((Number) row[3]).doubleValue())
-                            .setScale(2, RoundingMode.HALF_UP);
-                }
-                
-                return DepartmentStatisticsDTO.builder()
-                        .department(department)
-                        .totalStudents(total)
-                        .studentsPlaced(placed)
-                        .placementPercentage(percentage)
-                        .averagePackage(avgPkg)
-                        .build();
-            })
-            .collect(Collectors.toList());
-}
+    /**
+     * Company names as stored on students and in companies. Every placement
+     * path must use this: the (company_name, visit_year) upsert key does not
+     * know that "Acme" and "Acme " are the same company.
+     */
+    private static String normalizeCompanyName(String companyName) {
+        return blankToNull(companyName);
+    }
     
-    public List<YearStatisticsDTO> getYearStatistics() {
-    List<Object[]> results = studentRepository.getYearStatistics();
-    
-    return results.stream()
-            .map(row -> {
-                Integer year = (Integer) row[0];
-                Long total = ((Number) row[1]).longValue();
-                Long placed = ((Number) row[2]).longValue();
-                
-                BigDecimal percentage = BigDecimal.ZERO;
-                if (total > 0) {
-                    percentage = BigDecimal.valueOf(placed)
-                            .multiply(BigDecimal.valueOf(100))
-                            .divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
-                }
-                
-                BigDecimal avgPkg = null;
-                if (row[3] != null) {
-                    avgPkg = BigDecimal.valueOf(((Number) row[3]).doubleValue())
-                            .setScale(2, RoundingMode.HALF_UP);
-                }
-                
-                return YearStatisticsDTO.builder()
-                        .year(year)
-                        .totalStudents(total)
-                        .studentsPlaced(placed)
-                        .placementPercentage(percentage)
-                        .averagePackage(avgPkg)
-                        .build();
-            })
-            .collect(Collectors.toList());
-}
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+    
+    /**
+     * Rebuild the daily placement rollups from placements
+     * @return number of (day, department) rows
+     */
+    public int backfillPlacementTrend() {
+        int rows = trendService.backfill();
+        dataVersions.bump(DataVersions.Domain.PLACEMENTS);
+        return rows;
+    }
+    
+    /**
+     * Recompute the department/batch aggregates from students
+     * @return number of groups
+     */
+    public int rebuildAggregates() {
+        int groups = aggregateService.rebuild();
+        dataVersions.bump(DataVersions.Domain.STUDENTS);
+        return groups;
+    }
     
     @Transactional
     public void updatePlacement(PlacementRequest request) {
+        String companyName = normalizeCompanyName(request.getCompanyName());
+        if (companyName == null) {
+            throw new RuntimeException("Company name is required");
+        }
+        
         // Update student
         Student student = studentRepository.findById(request.getStudentId())
                 .orElseThrow(() -> new RuntimeException("Student not found"));
+        boolean wasPlaced = student.getPlacementStatus() == Student.PlacementStatus.PLACED;
+        BigDecimal previousPackage = wasPlaced ? student.getPackageLpa() : null;
+        String previousCompany = wasPlaced ? student.getCompanyPlaced() : null;
         
         student.setPlacementStatus(Student.PlacementStatus.PLACED);
-        student.setCompanyPlaced(request.getCompanyName());
+        student.setCompanyPlaced(companyName);
         student.setPackageLpa(request.getPackageLpa());
         studentRepository.save(student);
+        aggregateService.placementRecorded(student, wasPlaced, previousCompany, previousPackage);
         
-        // Get or create company
-        Integer currentYear = Year.now().getValue();
-        Company company = companyRepository
-                .findByCompanyNameAndVisitYear(request.getCompanyName(), currentYear)
-                .orElseGet(() -> {
-                    Company newCompany = new Company();
-                    newCompany.setCompanyName(request.getCompanyName());
-                    newCompany.setVisitYear(currentYear);
-                    newCompany.setStudentsPlaced(0);
-                    newCompany.setPackageOffered(request.getPackageLpa());
-                    return companyRepository.save(newCompany);
-                });
-        
-        // Update company statistics
-        company.setStudentsPlaced(company.getStudentsPlaced() + 1);
-        if (company.getPackageOffered() == null || 
-            request.getPackageLpa().compareTo(company.getPackageOffered()) > 0) {
-            company.setPackageOffered(request.getPackageLpa());
-        }
-        companyRepository.save(company);
+        // Count the placement against the company in one atomic upsert, so
+        // concurrent placements for the same company cannot lose an increment
+        CompanyJdbcRepository.PlacementUpsert company = companyJdbcRepository.recordPlacements(
+                companyName, Year.now().getValue(), 1, request.getPackageLpa());
         
         // Create placement record
         Placement placement = new Placement();
         placement.setStudent(student);
-        placement.setCompany(company);
+        placement.setCompany(companyRepository.getReferenceById(company.getCompanyId()));
         placement.setPlacementDate(LocalDate.now());
         placement.setPackageLpa(request.getPackageLpa());
         placement.setRole(request.getRole());
         placementRepository.save(placement);
+        trendService.placementRecorded(placement.getPlacementDate(), student.getDepartment(),
+                placement.getPackageLpa());
+        
+        overallSnapshot.recordPlacement(wasPlaced, previousPackage,
+                request.getPackageLpa(), company.isInserted());
+        dataVersions.bump(DataVersions.Domain.STUDENTS,
+                DataVersions.Domain.COMPANIES,
+                DataVersions.Domain.PLACEMENTS);
+    }
+    
+    /**
+     * Record many placements (a company's results) in one transaction.
+     *
+     * All students are read with one query, company counters are summed per
+     * company and upserted in one statement, and the student updates and
+     * placement rows go out as JDBC batches. All-or-nothing: an unknown
+     * student or an incomplete entry rejects the whole batch.
+     */
+    @Transactional
+    public PlacementBatchResponse recordPlacements(List<PlacementRequest> requests) {
+        long start = System.nanoTime();
+        
+        // Sorted by student (and below by company) so concurrent batches lock rows in the same order
+        SortedMap<String, PlacementRequest> byStudent = new TreeMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            PlacementRequest request = requests.get(i);
+            if (request == null || isBlank(request.getStudentId()) || isBlank(request.getCompanyName())) {
+                throw new IllegalArgumentException("Placement " + (i + 1) + ": studentId and companyName are required");
+            }
+            if (byStudent.put(request.getStudentId().trim(), request) != null) {
+                throw new IllegalArgumentException("Student " + request.getStudentId().trim()
+                        + " appears more than once");
+            }
+        }
+        
+        Map<String, Student> previousById = new HashMap<>();
+        for (Object[] row : studentRepository.findPlacementStates(byStudent.keySet())) {
+            Student previous = new Student();
+            previous.setStudentId((String) row[0]);
+            previous.setDepartment((String) row[1]);
+            previous.setBatchYear((Integer) row[2]);
+            previous.setPlacementStatus((Student.PlacementStatus) row[3]);
+            previous.setCompanyPlaced((String) row[4]);
+            previous.setPackageLpa((BigDecimal) row[5]);
+            previousById.put(previous.getStudentId(), previous);
+        }
+        for (String studentId : byStudent.keySet()) {
+            if (!previousById.containsKey(studentId)) {
+                throw new RuntimeException("Student not found: " + studentId);
+            }
+        }
+        
+        // Company counters, summed per company in memory
+        SortedMap<String, CompanyJdbcRepository.PlacementDelta> companyDeltas = new TreeMap<>();
+        for (PlacementRequest request : byStudent.values()) {
+            String companyName = normalizeCompanyName(request.getCompanyName());
+            companyDeltas.computeIfAbsent(companyName, CompanyJdbcRepository.PlacementDelta::new)
+                    .add(request.getPackageLpa());
+        }
+        Map<String, CompanyJdbcRepository.PlacementUpsert> companies =
+                companyJdbcRepository.recordPlacements(Year.now().getValue(), companyDeltas.values());
+        
+        LocalDate today = LocalDate.now();
+        List<Student> previousStates = new ArrayList<>(byStudent.size());
+        List<Student> placedStates = new ArrayList<>(byStudent.size());
+        List<Object[]> studentRows = new ArrayList<>(byStudent.size());
+        List<Object[]> placementRows = new ArrayList<>(byStudent.size());
+        for (Map.Entry<String, PlacementRequest> entry : byStudent.entrySet()) {
+            PlacementRequest request = entry.getValue();
+            String companyName = normalizeCompanyName(request.getCompanyName());
+            Student previous = previousById.get(entry.getKey());
+            
+            Student placed = new Student();
+            placed.setStudentId(previous.getStudentId());
+            placed.setDepartment(previous.getDepartment());
+            placed.setBatchYear(previous.getBatchYear());
+            placed.setPlacementStatus(Student.PlacementStatus.PLACED);
+            placed.setCompanyPlaced(companyName);
+            placed.setPackageLpa(request.getPackageLpa());
+            
+            previousStates.add(previous);
+            placedStates.add(placed);
+            studentRows.add(new Object[] {companyName, request.getPackageLpa(), entry.getKey()});
+            placementRows.add(new Object[] {entry.getKey(), companies.get(companyName).getCompanyId(),
+                    today, request.getPackageLpa(), request.getRole()});
+        }
+        studentJdbcRepository.recordPlacements(studentRows);
+        placementJdbcRepository.insertPlacements(placementRows);
+        
+        aggregateService.placementsRecorded(previousStates, placedStates);
+        trendService.placementsRecorded(today, placedStates);
+        
+        // A newly created company is counted once, with its first placement
+        Set<String> createdCompanies = new HashSet<>();
+        companies.forEach((name, upsert) -> {
+            if (upsert.isInserted()) {
+                createdCompanies.add(name);
+            }
+        });
+        int created = createdCompanies.size();
+        for (int i = 0; i < placedStates.size(); i++) {
+            Student previous = previousStates.get(i);
+            Student placed = placedStates.get(i);
+            boolean wasPlaced = previous.getPlacementStatus() == Student.PlacementStatus.PLACED;
+            overallSnapshot.recordPlacement(wasPlaced, wasPlaced ? previous.getPackageLpa() : null,
+                    placed.getPackageLpa(), createdCompanies.remove(placed.getCompanyPlaced()));
+        }
+        dataVersions.bump(DataVersions.Domain.STUDENTS,
+                DataVersions.Domain.COMPANIES,
+                DataVersions.Domain.PLACEMENTS);
+        
+        return PlacementBatchResponse.builder()
+                .placementsRecorded(placedStates.size())
+                .companiesCreated(created)
+                .companiesUpdated(companies.size() - created)
+                .durationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+    }
+    
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
 }
-
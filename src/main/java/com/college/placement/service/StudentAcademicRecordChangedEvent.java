@@ -0,0 +1,22 @@
+package com.college.placement.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+
+/**
+ * Published once per student whose cgpa or backlogs changed, carrying the
+ * new values together with the fields eligibility matching needs.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class StudentAcademicRecordChangedEvent {
+    private final String studentId;
+    private final String department;
+    private final Integer batchYear;
+    private final BigDecimal cgpa;
+    private final Integer backlogs;
+}
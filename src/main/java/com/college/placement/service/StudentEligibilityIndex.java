@@ -0,0 +1,361 @@
+package com.college.placement.service;
+
+import com.college.placement.model.Student;
+import com.college.placement.repository.StudentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory eligibility index over the student roster.
+ *
+ * Every student gets a dense ordinal. Departments and batches map to bitsets
+ * of ordinals, and CGPA/backlogs are kept as primitive columns indexed by
+ * ordinal, plus a CGPA-sorted column for range scans. Matching a drive is a
+ * few bitset ORs/ANDs followed by a scan of the students above the CGPA cut.
+ *
+ * Loaded lazily from StudentRepository on first use and kept in sync by
+ * StudentService on create, update and delete, and by academic record
+ * change events once their transaction commits.
+ */
+@Component
+public class StudentEligibilityIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> ordinalById = new HashMap<>();
+    private final Map<String, BitSet> byDepartment = new HashMap<>();
+    private final Map<Integer, BitSet> byBatch = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private String[] studentIds = new String[INITIAL_CAPACITY];
+    private String[] departments = new String[INITIAL_CAPACITY];
+    private int[] batches = new int[INITIAL_CAPACITY];
+    private int[] cgpas = new int[INITIAL_CAPACITY];
+    private int[] backlogs = new int[INITIAL_CAPACITY];
+    private int nextOrdinal = 0;
+
+    // (cgpaScaled << 32 | ordinal) of live students, ascending
+    private long[] cgpaSorted = new long[0];
+
+    private volatile boolean loaded = false;
+    private volatile boolean sortedDirty = true;
+
+    // ============================================
+    // QUERIES
+    // ============================================
+
+    /**
+     * Ids of all students matching the criteria
+     */
+    public List<String> findEligibleStudentIds(EligibilityCriteria criteria) {
+        ensureReady();
+        lock.readLock().lock();
+        try {
+            BitSet matched = match(criteria);
+            List<String> ids = new ArrayList<>(matched.cardinality());
+            for (int ord = matched.nextSetBit(0); ord >= 0; ord = matched.nextSetBit(ord + 1)) {
+                ids.add(studentIds[ord]);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of students matching the criteria
+     */
+    public int countEligible(EligibilityCriteria criteria) {
+        ensureReady();
+        lock.readLock().lock();
+        try {
+            return match(criteria).cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of students matching the criteria per department and batch year
+     */
+    public Map<String, Map<Integer, Integer>> countEligibleByGroup(EligibilityCriteria criteria) {
+        ensureReady();
+        lock.readLock().lock();
+        try {
+            BitSet matched = match(criteria);
+            Map<String, Map<Integer, Integer>> counts = new TreeMap<>();
+            for (int ord = matched.nextSetBit(0); ord >= 0; ord = matched.nextSetBit(ord + 1)) {
+                counts.computeIfAbsent(departments[ord], k -> new TreeMap<>())
+                        .merge(batches[ord], 1, Integer::sum);
+            }
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        ensureReady();
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Must be called with at least the read lock held
+    private BitSet match(EligibilityCriteria criteria) {
+        BitSet candidates = new BitSet(nextOrdinal);
+        for (String dept : criteria.getDepartments()) {
+            BitSet bits = byDepartment.get(dept);
+            if (bits != null) {
+                candidates.or(bits);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        BitSet batchBits = new BitSet(nextOrdinal);
+        for (Integer batch : criteria.getBatchList()) {
+            BitSet bits = byBatch.get(batch);
+            if (bits != null) {
+                batchBits.or(bits);
+            }
+        }
+        candidates.and(batchBits);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        int minCgpa = criteria.getMinCgpaScaled();
+        int maxBacklogs = criteria.getMaxBacklogs();
+        BitSet matched = new BitSet(nextOrdinal);
+
+        int from = sortedDirty ? -1 : lowerBound(cgpaSorted, (long) minCgpa << 32);
+        if (from >= 0 && cgpaSorted.length - from < candidates.cardinality()) {
+            // Range scan over the CGPA column is narrower than the candidate set
+            for (int i = from; i < cgpaSorted.length; i++) {
+                int ord = (int) cgpaSorted[i];
+                if (candidates.get(ord) && backlogs[ord] <= maxBacklogs) {
+                    matched.set(ord);
+                }
+            }
+        } else {
+            for (int ord = candidates.nextSetBit(0); ord >= 0; ord = candidates.nextSetBit(ord + 1)) {
+                if (cgpas[ord] >= minCgpa && backlogs[ord] <= maxBacklogs) {
+                    matched.set(ord);
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // ============================================
+    // MAINTENANCE
+    // ============================================
+
+    /**
+     * Add or refresh a student after it has been saved
+     */
+    public void upsert(Student student) {
+        if (student == null || student.getStudentId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return; // picked up by the initial load
+            }
+            put(student.getStudentId(), student.getDepartment(), student.getBatchYear(),
+                    student.getCgpa(), student.getBacklogs());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Refresh one student after a bulk academic update has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAcademicRecordChanged(StudentAcademicRecordChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            put(event.getStudentId(), event.getDepartment(), event.getBatchYear(),
+                    event.getCgpa(), event.getBacklogs());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop a student after it has been deleted
+     */
+    public void remove(String studentId) {
+        if (studentId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                return;
+            }
+            Integer ord = ordinalById.remove(studentId);
+            if (ord != null) {
+                clearOrdinal(ord);
+                freeOrdinals.push(ord);
+                sortedDirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Discard everything and reload from the database on next use
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureReady() {
+        if (loaded && !sortedDirty) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!loaded) {
+                load();
+            }
+            if (sortedDirty) {
+                resort();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Must be called with the write lock held
+    private void load() {
+        ordinalById.clear();
+        byDepartment.clear();
+        byBatch.clear();
+        live.clear();
+        freeOrdinals.clear();
+        nextOrdinal = 0;
+
+        List<Object[]> rows = studentRepository.findAcademicProfiles();
+        ensureCapacity(rows.size());
+        for (Object[] row : rows) {
+            put((String) row[0], (String) row[1], (Integer) row[2],
+                    (BigDecimal) row[3], (Integer) row[4]);
+        }
+        loaded = true;
+        sortedDirty = true;
+    }
+
+    // Must be called with the write lock held
+    private void resort() {
+        long[] sorted = new long[live.cardinality()];
+        int i = 0;
+        for (int ord = live.nextSetBit(0); ord >= 0; ord = live.nextSetBit(ord + 1)) {
+            sorted[i++] = ((long) cgpas[ord] << 32) | ord;
+        }
+        Arrays.sort(sorted);
+        cgpaSorted = sorted;
+        sortedDirty = false;
+    }
+
+    // Must be called with the write lock held
+    private void put(String studentId, String department, Integer batchYear,
+                     BigDecimal cgpa, Integer studentBacklogs) {
+        Integer ord = ordinalById.get(studentId);
+        if (ord != null) {
+            clearOrdinal(ord);
+        } else {
+            ord = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+            ensureCapacity(ord + 1);
+            ordinalById.put(studentId, ord);
+        }
+
+        String dept = department != null ? department.intern() : null;
+        int batch = batchYear != null ? batchYear : Integer.MIN_VALUE;
+
+        studentIds[ord] = studentId;
+        departments[ord] = dept;
+        batches[ord] = batch;
+        cgpas[ord] = EligibilityCriteria.scaleCgpa(cgpa);
+        backlogs[ord] = studentBacklogs != null ? studentBacklogs : 0;
+
+        live.set(ord);
+        if (dept != null) {
+            byDepartment.computeIfAbsent(dept, k -> new BitSet()).set(ord);
+        }
+        if (batchYear != null) {
+            byBatch.computeIfAbsent(batch, k -> new BitSet()).set(ord);
+        }
+        sortedDirty = true;
+    }
+
+    // Must be called with the write lock held
+    private void clearOrdinal(int ord) {
+        live.clear(ord);
+        BitSet deptBits = departments[ord] != null ? byDepartment.get(departments[ord]) : null;
+        if (deptBits != null) {
+            deptBits.clear(ord);
+        }
+        BitSet batchBits = byBatch.get(batches[ord]);
+        if (batchBits != null) {
+            batchBits.clear(ord);
+        }
+        studentIds[ord] = null;
+        departments[ord] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= studentIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, studentIds.length * 2);
+        studentIds = Arrays.copyOf(studentIds, newCapacity);
+        departments = Arrays.copyOf(departments, newCapacity);
+        batches = Arrays.copyOf(batches, newCapacity);
+        cgpas = Arrays.copyOf(cgpas, newCapacity);
+        backlogs = Arrays.copyOf(backlogs, newCapacity);
+    }
+}
@@ -0,0 +1,506 @@
+package com.college.placement.service;
+
+import com.college.placement.dto.*;
+import com.college.placement.repository.StudentJdbcRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Bulk roster and academic record imports from CSV or NDJSON.
+ *
+ * The file is read once, line by line: each row is validated, bad rows are
+ * reported with their line number, and good rows are written in batches of
+ * BATCH_SIZE through JDBC, all in a single transaction.
+ *
+ * CSV needs a header row; columns are matched by name, ignoring case,
+ * underscores and spaces. NDJSON is one JSON object per line with the same
+ * fields.
+ *
+ * Roster (studentId, name, department, batchYear, cgpa, backlogs): rows are
+ * staged and merged into students with one UPDATE and one INSERT. cgpa and
+ * backlogs are optional: new students get 0, existing students keep their
+ * current values.
+ *
+ * Academic records (studentId, cgpa, backlogs): applied with batched
+ * UPDATE ... FROM (VALUES ...), publishing a StudentAcademicRecordChangedEvent
+ * for every student whose values actually changed.
+ */
+@Service
+public class StudentImportService {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String[] ROSTER_COLUMNS = {"studentid", "name", "department", "batchyear", "cgpa", "backlogs"};
+    private static final String[] ACADEMIC_COLUMNS = {"studentid", "cgpa", "backlogs"};
+
+    @Autowired
+    private StudentJdbcRepository studentJdbcRepository;
+
+    @Autowired
+    private StudentEligibilityIndex eligibilityIndex;
+
+    @Autowired
+    private DataVersions dataVersions;
+
+    @Autowired
+    private PlacementAggregateService aggregateService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    /**
+     * Pick the format from an explicit parameter, falling back to the file name
+     */
+    public Format resolveFormat(String format, String filename) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return Format.valueOf(format.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported format: " + format + " (expected csv or ndjson)");
+            }
+        }
+        String name = filename != null ? filename.toLowerCase() : "";
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return Format.NDJSON;
+        }
+        return Format.CSV;
+    }
+
+    @Transactional
+    public StudentImportResponse importRoster(InputStream input, Format format) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportRun run = new ImportRun();
+
+        studentJdbcRepository.createImportStage();
+
+        readRows(input, format, ROSTER_COLUMNS, 4, run, this::acceptRosterRow);
+        flushRoster(run);
+
+        int updated = studentJdbcRepository.updateFromImportStage();
+        int inserted = studentJdbcRepository.insertFromImportStage();
+
+        if (updated + inserted > 0) {
+            // Departments and batches may have moved for many students at once
+            aggregateService.rebuild();
+            AfterCommit.runNowAndAfterCommit(eligibilityIndex::invalidate);
+            dataVersions.bump(DataVersions.Domain.STUDENTS);
+        }
+
+        return StudentImportResponse.builder()
+                .format(format.name())
+                .totalRows(run.totalRows)
+                .inserted((long) inserted)
+                .updated((long) updated)
+                .failed(run.failed)
+                .durationMs(System.currentTimeMillis() - started)
+                .errors(run.errors)
+                .errorsTruncated(run.failed > run.errors.size())
+                .build();
+    }
+
+    @Transactional
+    public StudentImportResponse importAcademicRecords(InputStream input, Format format) throws IOException {
+        long started = System.currentTimeMillis();
+        ImportRun run = new ImportRun();
+
+        readRows(input, format, ACADEMIC_COLUMNS, 3, run, this::acceptAcademicRow);
+        flushAcademic(run);
+
+        if (run.updated > 0) {
+            dataVersions.bump(DataVersions.Domain.STUDENTS);
+        }
+
+        return StudentImportResponse.builder()
+                .format(format.name())
+                .totalRows(run.totalRows)
+                .inserted(0L)
+                .updated(run.updated)
+                .unchanged(run.unchanged)
+                .failed(run.failed)
+                .durationMs(System.currentTimeMillis() - started)
+                .errors(run.errors)
+                .errorsTruncated(run.failed > run.errors.size())
+                .build();
+    }
+
+    // ============================================
+    // READERS
+    // ============================================
+
+    private void readRows(InputStream input, Format format, String[] columns, int requiredColumns,
+                          ImportRun run, RowHandler handler) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            if (format == Format.CSV) {
+                readCsv(reader, columns, requiredColumns, run, handler);
+            } else {
+                readNdjson(reader, columns, run, handler);
+            }
+        }
+    }
+
+    private void readCsv(BufferedReader reader, String[] columns, int requiredColumns,
+                         ImportRun run, RowHandler handler) throws IOException {
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        int[] columnIndex = mapCsvHeader(parseCsvLine(stripBom(header)), columns, requiredColumns);
+
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            run.totalRows++;
+
+            List<String> fields;
+            try {
+                fields = parseCsvLine(line);
+            } catch (IllegalArgumentException e) {
+                run.reject(lineNumber, null, e.getMessage());
+                continue;
+            }
+
+            String[] values = new String[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                int index = columnIndex[c];
+                values[c] = index >= 0 && index < fields.size() ? fields.get(index) : null;
+            }
+            handler.accept(values, lineNumber, run);
+        }
+    }
+
+    private void readNdjson(BufferedReader reader, String[] columns,
+                            ImportRun run, RowHandler handler) throws IOException {
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1) {
+                line = stripBom(line);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            run.totalRows++;
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (IOException e) {
+                run.reject(lineNumber, null, "Invalid JSON");
+                continue;
+            }
+            if (node == null || !node.isObject()) {
+                run.reject(lineNumber, null, "Expected a JSON object");
+                continue;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            node.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                if (!value.isNull()) {
+                    fields.put(normalizeColumn(field.getKey()), value.asText());
+                }
+            });
+
+            String[] values = new String[columns.length];
+            for (int c = 0; c < columns.length; c++) {
+                values[c] = fields.get(columns[c]);
+            }
+            handler.accept(values, lineNumber, run);
+        }
+    }
+
+    private int[] mapCsvHeader(List<String> header, String[] columns, int requiredColumns) {
+        int[] columnIndex = new int[columns.length];
+        Arrays.fill(columnIndex, -1);
+        for (int i = 0; i < header.size(); i++) {
+            String column = normalizeColumn(header.get(i));
+            for (int c = 0; c < columns.length; c++) {
+                if (columns[c].equals(column)) {
+                    columnIndex[c] = i;
+                }
+            }
+        }
+        for (int c = 0; c < requiredColumns; c++) {
+            if (columnIndex[c] < 0) {
+                throw new IllegalArgumentException("CSV header is missing required column: " + columns[c]);
+            }
+        }
+        return columnIndex;
+    }
+
+    /**
+     * Split one CSV line (RFC 4180 quoting, no embedded line breaks)
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static String normalizeColumn(String column) {
+        return column.trim().toLowerCase().replace("_", "").replace(" ", "");
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    // ============================================
+    // VALIDATION AND STAGING
+    // ============================================
+
+    /**
+     * Validate one roster row and stage it, or record why it was rejected
+     */
+    private void acceptRosterRow(String[] values, long lineNumber, ImportRun run) {
+        String studentId = trimToNull(values[0]);
+        String name = trimToNull(values[1]);
+        String department = trimToNull(values[2]);
+        String batchYearText = trimToNull(values[3]);
+
+        if (!checkStudentId(studentId, lineNumber, run)) {
+            return;
+        }
+        if (name == null || name.length() > 100) {
+            run.reject(lineNumber, studentId, "Name is required and must be at most 100 characters");
+            return;
+        }
+        if (department == null || department.length() > 50) {
+            run.reject(lineNumber, studentId, "Department is required and must be at most 50 characters");
+            return;
+        }
+
+        Integer batchYear;
+        BigDecimal cgpa;
+        Integer backlogs;
+        try {
+            if (batchYearText == null) {
+                run.reject(lineNumber, studentId, "Batch year is required");
+                return;
+            }
+            batchYear = Integer.valueOf(batchYearText);
+            if (batchYear < 1900 || batchYear > 2200) {
+                run.reject(lineNumber, studentId, "Batch year is out of range");
+                return;
+            }
+            cgpa = parseCgpa(trimToNull(values[4]));
+            backlogs = parseBacklogs(trimToNull(values[5]));
+        } catch (NumberFormatException e) {
+            run.reject(lineNumber, studentId, "Batch year, CGPA and backlogs must be numbers");
+            return;
+        } catch (IllegalArgumentException e) {
+            run.reject(lineNumber, studentId, e.getMessage());
+            return;
+        }
+
+        if (!run.seenIds.add(studentId)) {
+            run.reject(lineNumber, studentId, "Duplicate student ID in file");
+            return;
+        }
+
+        run.batch.add(new Object[] {studentId, name, department, batchYear, cgpa, backlogs});
+        if (run.batch.size() >= BATCH_SIZE) {
+            flushRoster(run);
+        }
+    }
+
+    /**
+     * Validate one academic record row and queue it, or record why it was rejected
+     */
+    private void acceptAcademicRow(String[] values, long lineNumber, ImportRun run) {
+        String studentId = trimToNull(values[0]);
+        if (!checkStudentId(studentId, lineNumber, run)) {
+            return;
+        }
+
+        BigDecimal cgpa;
+        Integer backlogs;
+        try {
+            // Out-of-range CGPA is rejected here, before it reaches the VALUES list
+            cgpa = parseCgpa(trimToNull(values[1]));
+            backlogs = parseBacklogs(trimToNull(values[2]));
+        } catch (NumberFormatException e) {
+            run.reject(lineNumber, studentId, "CGPA and backlogs must be numbers");
+            return;
+        } catch (IllegalArgumentException e) {
+            run.reject(lineNumber, studentId, e.getMessage());
+            return;
+        }
+        if (cgpa == null || backlogs == null) {
+            run.reject(lineNumber, studentId, "CGPA and backlogs are required");
+            return;
+        }
+
+        if (!run.seenIds.add(studentId)) {
+            run.reject(lineNumber, studentId, "Duplicate student ID in file");
+            return;
+        }
+
+        run.batch.add(new Object[] {studentId, cgpa, backlogs});
+        run.batchLines.add(lineNumber);
+        if (run.batch.size() >= BATCH_SIZE) {
+            flushAcademic(run);
+        }
+    }
+
+    private void flushRoster(ImportRun run) {
+        studentJdbcRepository.stageImportRows(run.batch);
+        run.batch.clear();
+    }
+
+    /**
+     * Apply queued academic records and publish one event per changed student
+     */
+    private void flushAcademic(ImportRun run) {
+        if (run.batch.isEmpty()) {
+            return;
+        }
+        Map<String, Object[]> results = new HashMap<>();
+        for (Object[] row : studentJdbcRepository.updateAcademicRecords(run.batch)) {
+            results.put((String) row[0], row);
+        }
+
+        for (int i = 0; i < run.batch.size(); i++) {
+            String studentId = (String) run.batch.get(i)[0];
+            Object[] result = results.get(studentId);
+            if (result == null) {
+                run.reject(run.batchLines.get(i), studentId, "Student not found");
+            } else if (Boolean.TRUE.equals(result[1])) {
+                run.updated++;
+                eventPublisher.publishEvent(new StudentAcademicRecordChangedEvent(
+                        studentId, (String) result[2], (Integer) result[3],
+                        (BigDecimal) result[4], (Integer) result[5]));
+            } else {
+                run.unchanged++;
+            }
+        }
+        run.batch.clear();
+        run.batchLines.clear();
+    }
+
+    private boolean checkStudentId(String studentId, long lineNumber, ImportRun run) {
+        if (studentId == null) {
+            run.reject(lineNumber, null, "Student ID is required");
+            return false;
+        }
+        if (studentId.length() > 20) {
+            run.reject(lineNumber, studentId, "Student ID must be at most 20 characters");
+            return false;
+        }
+        return true;
+    }
+
+    private static BigDecimal parseCgpa(String text) {
+        if (text == null) {
+            return null;
+        }
+        BigDecimal cgpa = new BigDecimal(text);
+        if (cgpa.signum() < 0 || cgpa.compareTo(StudentJdbcRepository.MAX_CGPA) > 0 || cgpa.scale() > 2) {
+            throw new IllegalArgumentException("CGPA must be between 0.00 and "
+                    + StudentJdbcRepository.MAX_CGPA + " with at most 2 decimals");
+        }
+        return cgpa;
+    }
+
+    private static Integer parseBacklogs(String text) {
+        if (text == null) {
+            return null;
+        }
+        Integer backlogs = Integer.valueOf(text);
+        if (backlogs < 0) {
+            throw new IllegalArgumentException("Backlogs cannot be negative");
+        }
+        return backlogs;
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void accept(String[] values, long lineNumber, ImportRun run);
+    }
+
+    /**
+     * Mutable state of one import
+     */
+    private static final class ImportRun {
+        final List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        final List<Long> batchLines = new ArrayList<>(BATCH_SIZE);
+        final Set<String> seenIds = new HashSet<>();
+        final List<ImportRowError> errors = new ArrayList<>();
+        long totalRows = 0;
+        long updated = 0;
+        long unchanged = 0;
+        long failed = 0;
+
+        void reject(long line, String studentId, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(ImportRowError.builder()
+                        .line(line)
+                        .studentId(studentId)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
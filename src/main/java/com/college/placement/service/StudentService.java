@@ -3,26 +3,131 @@ package com.college.placement.service;
 import com.college.placement.model.*;
 import com.college.placement.dto.*;
 import com.college.placement.repository.*;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.Year;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class StudentService {
     
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
+    
+    private static final String STUDENT_STREAM_SQL =
+            "SELECT student_id, name, department, batch_year, cgpa, backlogs, " +
+            "placement_status, company_placed, package_lpa FROM students ORDER BY student_id";
+    
     @Autowired
     private StudentRepository studentRepository;
     
+    @Autowired
+    private StudentEligibilityIndex eligibilityIndex;
+    
+    @Autowired
+    private DataVersions dataVersions;
+    
+    @Autowired
+    private PlacementAggregateService aggregateService;
+    
+    @Autowired
+    private StreamingJdbcRepository streamingJdbcRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
     public List<Student> getAllStudents() {
         return studentRepository.findAll();
     }
     
+    /**
+     * Page through students ordered by studentId. With afterId this is a keyset
+     * page (constant cost at any depth), otherwise an offset page with a total.
+     */
+    public StudentPageResponse getStudentPage(Integer page, Integer size, String afterId) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        
+        if (afterId != null) {
+            // Fetch one extra row to know whether another page follows
+            List<Object[]> rows = studentRepository.findStudentRowsAfter(afterId, PageRequest.of(0, pageSize + 1));
+            boolean hasMore = rows.size() > pageSize;
+            List<StudentSummaryDTO> students = rows.stream()
+                    .limit(pageSize)
+                    .map(this::mapRowToSummary)
+                    .collect(Collectors.toList());
+            
+            return StudentPageResponse.builder()
+                    .students(students)
+                    .size(students.size())
+                    .hasMore(hasMore)
+                    .nextAfterId(hasMore ? students.get(students.size() - 1).getStudentId() : null)
+                    .build();
+        }
+        
+        int pageNumber = page == null ? 0 : Math.max(0, page);
+        Page<Object[]> rows = studentRepository.findStudentRows(PageRequest.of(pageNumber, pageSize));
+        List<StudentSummaryDTO> students = rows.getContent().stream()
+                .map(this::mapRowToSummary)
+                .collect(Collectors.toList());
+        
+        return StudentPageResponse.builder()
+                .students(students)
+                .page(pageNumber)
+                .size(students.size())
+                .totalStudents(rows.getTotalElements())
+                .hasMore(rows.hasNext())
+                .nextAfterId(rows.hasNext() ? students.get(students.size() - 1).getStudentId() : null)
+                .build();
+    }
+    
+    /**
+     * Write every student as an ApiResponse-shaped JSON document, row by row
+     * from a JDBC cursor, so memory stays flat whatever the roster size
+     */
+    public void streamStudents(OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.writeStartObject();
+            json.writeBooleanField("success", true);
+            json.writeStringField("message", "Students retrieved successfully");
+            json.writeArrayFieldStart("data");
+            
+            streamingJdbcRepository.stream(STUDENT_STREAM_SQL, rs -> {
+                try {
+                    json.writeStartObject();
+                    json.writeStringField("studentId", rs.getString("student_id"));
+                    json.writeStringField("name", rs.getString("name"));
+                    json.writeStringField("department", rs.getString("department"));
+                    json.writeObjectField("batchYear", rs.getObject("batch_year"));
+                    json.writeObjectField("cgpa", rs.getBigDecimal("cgpa"));
+                    json.writeObjectField("backlogs", rs.getObject("backlogs"));
+                    json.writeStringField("placementStatus", rs.getString("placement_status"));
+                    json.writeStringField("companyPlaced", rs.getString("company_placed"));
+                    json.writeObjectField("packageLpa", rs.getBigDecimal("package_lpa"));
+                    json.writeEndObject();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+    }
+    
     public Optional<Student> getStudentById(String studentId) {
         return studentRepository.findById(studentId);
     }
@@ -39,23 +144,56 @@ public class StudentService {
         return studentRepository.findByDepartmentAndBatchYear(department, batchYear);
     }
     
+    @Transactional
     public Student createStudent(Student student) {
         student.setPlacementStatus(Student.PlacementStatus.NOT_PLACED);
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        aggregateService.studentAdded(saved);
+        AfterCommit.run(() -> eligibilityIndex.upsert(saved));
+        dataVersions.bump(DataVersions.Domain.STUDENTS);
+        return saved;
     }
     
+    @Transactional
     public Student updateStudent(String studentId, Student studentDetails) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new RuntimeException("Student not found"));
+        String previousDepartment = student.getDepartment();
+        Integer previousBatchYear = student.getBatchYear();
         
         student.setName(studentDetails.getName());
         student.setDepartment(studentDetails.getDepartment());
         student.setBatchYear(studentDetails.getBatchYear());
         
-        return studentRepository.save(student);
+        Student saved = studentRepository.save(student);
+        aggregateService.studentMoved(previousDepartment, previousBatchYear, saved);
+        AfterCommit.run(() -> eligibilityIndex.upsert(saved));
+        dataVersions.bump(DataVersions.Domain.STUDENTS);
+        return saved;
     }
     
+    @Transactional
     public void deleteStudent(String studentId) {
-        studentRepository.deleteById(studentId);
+        studentRepository.findById(studentId).ifPresent(student -> {
+            studentRepository.delete(student);
+            studentRepository.flush();
+            aggregateService.studentRemoved(student);
+        });
+        AfterCommit.run(() -> eligibilityIndex.remove(studentId));
+        dataVersions.bump(DataVersions.Domain.STUDENTS);
+    }
+    
+    private StudentSummaryDTO mapRowToSummary(Object[] row) {
+        return StudentSummaryDTO.builder()
+                .studentId((String) row[0])
+                .name((String) row[1])
+                .department((String) row[2])
+                .batchYear((Integer) row[3])
+                .cgpa((BigDecimal) row[4])
+                .backlogs((Integer) row[5])
+                .placementStatus(row[6] != null ? ((Student.PlacementStatus) row[6]).name() : null)
+                .companyPlaced((String) row[7])
+                .packageLpa((BigDecimal) row[8])
+                .build();
     }
-}
\ No newline at end of file
+}
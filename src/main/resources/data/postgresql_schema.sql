@@ -28,8 +28,8 @@ CREATE TABLE IF NOT EXISTS placement_drives (
     package_offered DECIMAL(10, 2),
     min_cgpa DECIMAL(3, 2) DEFAULT 0.00,
     max_backlogs INT DEFAULT 0,
-    eligible_departments TEXT,
-    eligible_batches TEXT,
+    eligible_departments TEXT[],
+    eligible_batches INT[],
     drive_date DATE,
     application_deadline TIMESTAMP,
     venue VARCHAR(200),
@@ -40,6 +40,45 @@ CREATE TABLE IF NOT EXISTS placement_drives (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Eligibility as native arrays (older installs stored JSON text)
+DO $$
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_name = 'placement_drives' AND column_name = 'eligible_departments') <> 'ARRAY' THEN
+        ALTER TABLE placement_drives
+            ALTER COLUMN eligible_departments TYPE TEXT[]
+                USING regexp_split_to_array(
+                    NULLIF(regexp_replace(eligible_departments::TEXT, '^\s*\[\s*|\s*\]\s*$|"', '', 'g'), ''),
+                    '\s*,\s*'),
+            ALTER COLUMN eligible_batches TYPE INT[]
+                USING regexp_split_to_array(
+                    NULLIF(regexp_replace(eligible_batches::TEXT, '[\[\]\s]', '', 'g'), ''),
+                    ',')::INT[];
+    END IF;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_drives_eligible_departments
+    ON placement_drives USING GIN (eligible_departments);
+CREATE INDEX IF NOT EXISTS idx_drives_eligible_batches
+    ON placement_drives USING GIN (eligible_batches);
+
+-- Keyset pagination of drive listings (newest first)
+CREATE INDEX IF NOT EXISTS idx_drives_created_keyset
+    ON placement_drives (created_at DESC, drive_id DESC);
+CREATE INDEX IF NOT EXISTS idx_drives_status_created_keyset
+    ON placement_drives (status, created_at DESC, drive_id DESC);
+
+-- Full-text search over company name, job role and description
+ALTER TABLE placement_drives
+ADD COLUMN IF NOT EXISTS search_vector TSVECTOR GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(company_name, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(job_role, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(job_description, '')), 'C')
+) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_drives_search_vector
+    ON placement_drives USING GIN (search_vector);
+
 -- Applications
 CREATE TABLE IF NOT EXISTS applications (
     application_id SERIAL PRIMARY KEY,
@@ -58,6 +97,19 @@ CREATE TABLE IF NOT EXISTS applications (
     UNIQUE(drive_id, student_id)
 );
 
+-- Per-drive funnel counts (GROUP BY status) without touching the heap
+CREATE INDEX IF NOT EXISTS idx_applications_drive_status
+    ON applications (drive_id, status);
+
+-- Denormalized application counter (maintained by atomic increments)
+ALTER TABLE placement_drives
+ADD COLUMN IF NOT EXISTS application_count INT NOT NULL DEFAULT 0;
+
+UPDATE placement_drives d SET application_count = c.cnt
+FROM (SELECT drive_id, COUNT(*) AS cnt FROM applications
+      WHERE status <> 'WITHDRAWN' GROUP BY drive_id) c
+WHERE c.drive_id = d.drive_id;
+
 -- Notifications
 CREATE TABLE IF NOT EXISTS notifications (
     notification_id SERIAL PRIMARY KEY,
@@ -87,6 +139,43 @@ CREATE TABLE IF NOT EXISTS offer_letters (
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Placement totals per (department, batch year), maintained incrementally
+CREATE TABLE IF NOT EXISTS placement_aggregates (
+    aggregate_id SERIAL PRIMARY KEY,
+    department VARCHAR(50) NOT NULL,
+    batch_year INT NOT NULL,
+    total_students BIGINT NOT NULL DEFAULT 0,
+    placed_students BIGINT NOT NULL DEFAULT 0,
+    package_count BIGINT NOT NULL DEFAULT 0,
+    package_sum DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    package_max DECIMAL(10, 2),
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (department, batch_year)
+);
+
+-- Recomputing one group's maximum package
+CREATE INDEX IF NOT EXISTS idx_students_department_batch
+    ON students (department, batch_year);
+
+-- Placements per (day, department) for trend charts, maintained incrementally
+CREATE TABLE IF NOT EXISTS placement_daily_rollups (
+    rollup_id SERIAL PRIMARY KEY,
+    rollup_date DATE NOT NULL,
+    department VARCHAR(50) NOT NULL,
+    placements BIGINT NOT NULL DEFAULT 0,
+    package_sum DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE (rollup_date, department)
+);
+
+-- Date-range reads of placements
+CREATE INDEX IF NOT EXISTS idx_placements_date
+    ON placements (placement_date);
+
+-- Conflict target of the atomic company placement upsert
+CREATE UNIQUE INDEX IF NOT EXISTS idx_companies_name_year
+    ON companies (company_name, visit_year);
+
 -- Insert admin user
 INSERT INTO users (username, email, password_hash, role)
 VALUES ('admin', 'admin@college.edu', '$2a$10$N9qo8uLOickgx2ZMRZoMye5POv2Jm0sQdg3DfPPLbQLaU8OqhKQ8u', 'ADMIN')